@@ -0,0 +1,72 @@
+package com.api.coupon.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coupon.canIssue / isValid 벤치마크
+ *
+ * - localDateTimeNow : LocalDateTime.now() 자체 비용 (시스템 시계 + 타임존 변환)
+ * - canIssue/isValid : 내부에서 now() 호출
+ * - isValidAt        : 호출자가 넘긴 시각으로 비교만 수행
+ *
+ * ./gradlew jmh -PjmhInclude=CouponValidityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponValidityBenchmark {
+
+    private Coupon coupon;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        coupon = Coupon.builder()
+                .id(1L)
+                .name("벤치마크 쿠폰")
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(100)
+                .issuedQuantity(10)
+                .build();
+        now = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeNow() {
+        return LocalDateTime.now();
+    }
+
+    @Benchmark
+    public boolean canIssue() {
+        return coupon.canIssue();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return coupon.isValid();
+    }
+
+    @Benchmark
+    public boolean isValidAt() {
+        return coupon.isValidAt(now);
+    }
+}
@@ -0,0 +1,72 @@
+package com.api.coupon.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coupons.calculateDiscount 벤치마크 (쿠폰 수 x 쿠폰 종류)
+ *
+ * ./gradlew jmh -PjmhInclude=CouponsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponsBenchmark {
+
+    @Param({"1", "5", "10", "20", "50"})
+    private int couponCount;
+
+    @Param({"FIXED", "PERCENTAGE"})
+    private CouponType type;
+
+    private Coupons coupons;
+    private int orderAmount;
+
+    @Setup
+    public void setUp() {
+        List<Coupon> couponList = new ArrayList<>(couponCount);
+        for (int i = 0; i < couponCount; i++) {
+            couponList.add(Coupon.builder()
+                    .id((long) i)
+                    .name("쿠폰 " + i)
+                    .type(type)
+                    .discountValue(type == CouponType.PERCENTAGE ? 1 + i % 30 : 500 + i * 10)
+                    .minOrderAmount(10_000)
+                    .maxDiscountAmount(type == CouponType.PERCENTAGE ? 5_000 : null)
+                    .startDate(LocalDateTime.now().minusDays(1))
+                    .endDate(LocalDateTime.now().plusDays(1))
+                    .totalQuantity(100)
+                    .issuedQuantity(0)
+                    .build());
+        }
+        coupons = new Coupons(couponList);
+        orderAmount = 1_000_000;
+    }
+
+    @Benchmark
+    public DiscountResult calculateDiscount() {
+        return coupons.calculateDiscount(orderAmount);
+    }
+
+    @Benchmark
+    public long calculateTotalDiscount() {
+        return coupons.calculateTotalDiscount(orderAmount);
+    }
+}
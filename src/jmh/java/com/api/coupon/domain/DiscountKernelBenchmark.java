@@ -0,0 +1,89 @@
+package com.api.coupon.domain;
+
+import com.api.coupon.dto.CalculateDiscountResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할인 계산 커널 벤치마크
+ *
+ * - legacyPercentage : 기존 double 정률 계산
+ * - kernelPercentage : 정수 커널
+ * - withDetails      : 쿠폰별 내역 + 응답 DTO 변환 (기존 경로)
+ * - totalOnly        : 총 할인 금액만 (할당 없음)
+ *
+ * ./gradlew jmh -PjmhInclude=DiscountKernelBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscountKernelBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int couponCount;
+
+    private Coupons coupons;
+    private int orderAmount;
+    private int discountValue;
+
+    @Setup
+    public void setUp() {
+        List<Coupon> couponList = new ArrayList<>();
+        for (int i = 0; i < couponCount; i++) {
+            couponList.add(Coupon.builder()
+                    .id((long) i)
+                    .name("쿠폰 " + i)
+                    .type(i % 2 == 0 ? CouponType.PERCENTAGE : CouponType.FIXED)
+                    .discountValue(i % 2 == 0 ? 10 : 1000)
+                    .minOrderAmount(0)
+                    .maxDiscountAmount(i % 2 == 0 ? 5000 : null)
+                    .startDate(LocalDateTime.now().minusDays(1))
+                    .endDate(LocalDateTime.now().plusDays(1))
+                    .totalQuantity(100)
+                    .issuedQuantity(0)
+                    .build());
+        }
+        coupons = new Coupons(couponList);
+        orderAmount = 87_650;
+        discountValue = 17;
+    }
+
+    @Benchmark
+    public int legacyPercentage() {
+        return (int) (orderAmount * discountValue / 100.0);
+    }
+
+    @Benchmark
+    public long kernelPercentage() {
+        return DiscountKernel.percentage(orderAmount, discountValue, DiscountKernel.DEFAULT_ROUNDING);
+    }
+
+    @Benchmark
+    public void withDetails(Blackhole blackhole) {
+        DiscountResult result = coupons.calculateDiscount(orderAmount);
+        blackhole.consume(CalculateDiscountResponse.of(orderAmount, result));
+    }
+
+    @Benchmark
+    public long totalOnly() {
+        return coupons.calculateTotalDiscount(orderAmount);
+    }
+}
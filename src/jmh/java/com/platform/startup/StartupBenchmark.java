@@ -0,0 +1,190 @@
+package com.platform.startup;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시간 벤치마크 (기본 모드 vs prod 프로파일 / AppCDS / AOT)
+ *
+ * 모드별로 애플리케이션 프로세스를 새로 띄워 /actuator/health 가 200 을 줄 때까지의 시간(ready)과
+ * Spring 이 로그로 남기는 "process running for" 시간(started)을 측정한다.
+ * 모든 모드가 같은 H2 파일 DB 를 쓰고, 기본 모드(ddl-auto: create + data.sql)가 먼저 돌아 스키마를 만든다.
+ *
+ * ./gradlew startupBenchmark [-PfastStartup] [-PstartupRuns=5]
+ * 결과: build/reports/startup/startup.md
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+    private static final long READY_TIMEOUT_MILLIS = 120_000;
+    private static final String AUDIT_KEY = randomAuditKey();   // 벤치마크 전용 임의 키
+
+    private final String java;
+    private final Path jar;
+    private final Path cdsArchive;
+    private final Path workDir;
+    private final boolean aot;
+
+    private StartupBenchmark(Map<String, String> options) {
+        this.java = ProcessHandle.current().info().command().orElse("java");
+        this.jar = Paths.get(options.get("jar")).toAbsolutePath();
+        this.cdsArchive = options.containsKey("cds") ? Paths.get(options.get("cds")).toAbsolutePath() : null;
+        this.workDir = Paths.get(options.getOrDefault("work", "build/startup-benchmark")).toAbsolutePath();
+        this.aot = Boolean.parseBoolean(options.getOrDefault("aot", "false"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path report = Paths.get(options.getOrDefault("report", "build/reports/startup/startup.md"));
+
+        StartupBenchmark benchmark = new StartupBenchmark(options);
+        benchmark.run(runs, report);
+    }
+
+    private void run(int runs, Path report) throws Exception {
+        Files.createDirectories(workDir.resolve("logs"));
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        modes.put("prod", List.of("-Dspring.profiles.active=prod"));
+        if (cdsArchive != null && Files.exists(cdsArchive)) {
+            modes.put("prod + cds", List.of("-Dspring.profiles.active=prod", "-XX:SharedArchiveFile=" + cdsArchive));
+        }
+        if (aot) {
+            modes.put("prod + aot", List.of("-Dspring.profiles.active=prod", "-Dspring.aot.enabled=true"));
+            if (cdsArchive != null && Files.exists(cdsArchive)) {
+                modes.put("prod + aot + cds", List.of("-Dspring.profiles.active=prod", "-Dspring.aot.enabled=true",
+                        "-XX:SharedArchiveFile=" + cdsArchive));
+            }
+        }
+
+        // 스키마 생성 + 디스크 캐시 워밍업
+        launch("prepare", modes.get("default"));
+
+        Map<String, List<long[]>> results = new LinkedHashMap<>();
+        modes.keySet().forEach(mode -> results.put(mode, new ArrayList<>()));
+        for (int i = 0; i < runs; i++) {
+            // 모드를 번갈아 실행해 시간대별 편차가 한 모드에 몰리지 않도록
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                long[] result = launch(mode.getKey() + "-" + i, mode.getValue());
+                results.get(mode.getKey()).add(result);
+                System.out.printf("%-18s run %d: ready %d ms, started %d ms%n", mode.getKey(), i, result[0], result[1]);
+            }
+        }
+
+        StringBuilder table = new StringBuilder();
+        table.append("| mode | ready median ms | ready min ms | started median ms | vs default |\n");
+        table.append("|---|---:|---:|---:|---:|\n");
+        long baseline = median(results.get("default"), 0);
+        for (Map.Entry<String, List<long[]>> entry : results.entrySet()) {
+            long ready = median(entry.getValue(), 0);
+            table.append(String.format("| %s | %d | %d | %d | %.0f%% |%n", entry.getKey(), ready,
+                    entry.getValue().stream().mapToLong(r -> r[0]).min().orElse(0),
+                    median(entry.getValue(), 1), 100.0 * ready / baseline));
+        }
+
+        System.out.println();
+        System.out.println(table);
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, table);
+        System.out.println("결과 저장: " + report.toAbsolutePath());
+    }
+
+    /**
+     * @return {ready ms, started ms}
+     */
+    private long[] launch(String name, List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmOptions);
+        command.addAll(Arrays.asList("-cp", jar.toString(), "com.platform.BackendPrepareApplication",
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:file:" + workDir.resolve("db") + ";FILE_LOCK=NO",
+                "--coupon.audit.dir=" + workDir.resolve("audit"),
+                "--coupon.audit.key=" + AUDIT_KEY,
+                "--coupon.distribution.storage-dir=" + workDir.resolve("distributions")));
+
+        Path log = workDir.resolve("logs").resolve(name.replace(' ', '_').replace("+", "") + ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            waitUntilReady(process, port, log);
+            long ready = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new long[]{ready, startedMillis(log)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static void waitUntilReady(Process process, int port, Path log) throws Exception {
+        URI health = URI.create("http://localhost:" + port + "/actuator/health");
+        long deadline = System.currentTimeMillis() + READY_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 기동 중 종료되었습니다. 로그: " + log);
+            }
+            try {
+                HttpURLConnection connection = (HttpURLConnection) health.toURL().openConnection();
+                connection.setConnectTimeout(100);
+                connection.setReadTimeout(1000);
+                if (connection.getResponseCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("기동 대기 시간 초과. 로그: " + log);
+    }
+
+    private static long startedMillis(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log, StandardCharsets.UTF_8));
+        return matcher.find() ? (long) (Double.parseDouble(matcher.group(1)) * 1000) : -1;
+    }
+
+    private static long median(List<long[]> results, int index) {
+        long[] values = results.stream().mapToLong(r -> r[index]).sorted().toArray();
+        return values.length == 0 ? 0 : values[values.length / 2];
+    }
+
+    private static String randomAuditKey() {
+        byte[] key = new byte[16];
+        new SecureRandom().nextBytes(key);
+        return HexFormat.of().formatHex(key);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
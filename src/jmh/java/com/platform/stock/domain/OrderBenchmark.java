@@ -0,0 +1,88 @@
+package com.platform.stock.domain;
+
+import com.api.coupon.domain.CouponDiscountInfo;
+import com.api.coupon.domain.DiscountResult;
+import com.api.coupon.dto.CalculateDiscountResponse;
+import com.platform.stock.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 / 응답 DTO 변환 벤치마크
+ *
+ * - createOrder               : OrderItem 생성 + Order 생성 (calculateTotalPrice 포함)
+ * - orderResponseFrom         : OrderResponse.from
+ * - calculateDiscountResponse : CalculateDiscountResponse.of
+ *
+ * ./gradlew jmh -PjmhInclude=OrderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int itemCount;
+
+    private Order order;
+    private DiscountResult discountResult;
+
+    @Setup
+    public void setUp() {
+        order = createOrder();
+
+        List<CouponDiscountInfo> applied = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            applied.add(new CouponDiscountInfo((long) i, "쿠폰 " + i, 1000));
+        }
+        discountResult = DiscountResult.builder()
+                .originalAmount(100_000)
+                .totalDiscount(itemCount * 1000)
+                .finalAmount(100_000 - itemCount * 1000)
+                .appliedCoupons(applied)
+                .build();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.builder()
+                    .menuId((long) i)
+                    .menuName("메뉴 " + i)
+                    .quantity(1 + i % 3)
+                    .price(18_000)
+                    .build());
+        }
+        return Order.builder()
+                .userId(1L)
+                .items(items)
+                .build();
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseFrom() {
+        return OrderResponse.from(order);
+    }
+
+    @Benchmark
+    public CalculateDiscountResponse calculateDiscountResponse() {
+        return CalculateDiscountResponse.of(100_000, discountResult);
+    }
+}
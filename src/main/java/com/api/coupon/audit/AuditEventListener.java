@@ -0,0 +1,51 @@
+package com.api.coupon.audit;
+
+import com.api.coupon.domain.CouponIssueRejectedEvent;
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.domain.CouponUsedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 발급/사용 커밋 이후 감사 로그 기록 (롤백된 요청은 기록되지 않음)
+ *
+ * 커밋 이후에는 기록 실패를 되돌릴 수 없으므로, 트랜잭션 안에서 발행된 이벤트는
+ * 커밋 직전에 writer 상태를 확인해 중단됐으면 롤백시킨다. (감사 기록 없는 발급/사용 방지)
+ * 발급 거절은 트랜잭션 결과와 무관하므로 발행 즉시 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditEventListener {
+
+    private final AuditLogWriter auditLogWriter;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeIssuedCommit(CouponIssuedEvent event) {
+        auditLogWriter.checkWritable();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeUsedCommit(CouponUsedEvent event) {
+        auditLogWriter.checkWritable();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssued(CouponIssuedEvent event) {
+        auditLogWriter.append(event.getUserId(), event.getCouponId(), AuditOutcome.ISSUED);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsed(CouponUsedEvent event) {
+        for (Long couponId : event.getCouponIds()) {
+            auditLogWriter.append(event.getUserId(), couponId, AuditOutcome.REDEEMED);
+        }
+    }
+
+    @EventListener
+    public void onRejected(CouponIssueRejectedEvent event) {
+        auditLogWriter.append(event.getUserId(), event.getCouponId(), AuditOutcome.REJECTED);
+    }
+}
@@ -0,0 +1,180 @@
+package com.api.coupon.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * 감사 로그 세그먼트 파일 포맷
+ *
+ * 세그먼트 = 헤더 64byte + 고정 길이 레코드 48byte * capacity
+ *
+ * 헤더:
+ *   0  int   magic ("CAUD")
+ *   4  short version
+ *   6  short record size
+ *   8  long  segment index
+ *   16 long  first sequence
+ *   24 long  이전 세그먼트 마지막 레코드 hash (체인 연결, 첫 세그먼트는 0)
+ *   32 long  생성 시각 (epoch millis)
+ *   40 int   capacity (레코드 수)
+ *
+ * 레코드:
+ *   0  long  sequence (1부터, 0이면 빈 슬롯 - 마지막에 기록)
+ *   8  long  userId
+ *   16 long  couponId
+ *   24 long  timestamp (epoch millis)
+ *   32 int   outcome code
+ *   36 int   reserved
+ *   40 long  hash = SipHash-2-4(key, 이전 hash + 레코드 필드)
+ *
+ * hash 가 이전 레코드 hash 를 포함하므로 중간 레코드를 수정/삭제하면 이후 체인이 모두 깨진다.
+ * 키가 없으면 체인을 다시 계산할 수 없어 위조도 불가
+ */
+final class AuditFormat {
+
+    static final int MAGIC = 0x43415544;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 48;
+
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private AuditFormat() {
+    }
+
+    static String segmentFileName(long segmentIndex) {
+        return String.format("%s%010d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX);
+    }
+
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    static long segmentSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * RECORD_SIZE;
+    }
+
+    static void writeHeader(ByteBuffer buffer, long segmentIndex, long firstSequence, long prevHash, int capacity) {
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putShort(6, (short) RECORD_SIZE);
+        buffer.putLong(8, segmentIndex);
+        buffer.putLong(16, firstSequence);
+        buffer.putLong(24, prevHash);
+        buffer.putLong(32, System.currentTimeMillis());
+        buffer.putInt(40, capacity);
+    }
+
+    static void checkHeader(ByteBuffer buffer, Path path) {
+        if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IllegalStateException("감사 로그 세그먼트 형식이 올바르지 않습니다: " + path);
+        }
+    }
+
+    static long segmentIndex(ByteBuffer buffer) {
+        return buffer.getLong(8);
+    }
+
+    static long firstSequence(ByteBuffer buffer) {
+        return buffer.getLong(16);
+    }
+
+    static long prevHash(ByteBuffer buffer) {
+        return buffer.getLong(24);
+    }
+
+    static int capacity(ByteBuffer buffer) {
+        return buffer.getInt(40);
+    }
+
+    static int recordOffset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * 레코드 기록 - sequence 를 마지막에 써서 sequence 가 보이면 나머지 필드도 기록된 상태
+     */
+    static void writeRecord(ByteBuffer buffer, int index, long sequence, long userId, long couponId,
+                            long timestampMillis, int outcomeCode, long hash) {
+        int offset = recordOffset(index);
+        buffer.putLong(offset + 8, userId);
+        buffer.putLong(offset + 16, couponId);
+        buffer.putLong(offset + 24, timestampMillis);
+        buffer.putInt(offset + 32, outcomeCode);
+        buffer.putInt(offset + 36, 0);
+        buffer.putLong(offset + 40, hash);
+        buffer.putLong(offset, sequence);
+    }
+
+    static AuditRecord readRecord(ByteBuffer buffer, int index) {
+        int offset = recordOffset(index);
+        return new AuditRecord(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getInt(offset + 32),
+                buffer.getLong(offset + 40));
+    }
+
+    static long chainHash(long k0, long k1, long prevHash, long sequence, long userId, long couponId,
+                          long timestampMillis, int outcomeCode) {
+        return sipHash24(k0, k1, prevHash, sequence, userId, couponId, timestampMillis, outcomeCode & 0xffffffffL);
+    }
+
+    /**
+     * SipHash-2-4 (64bit 워드 6개 = 48byte 입력, 할당 없음)
+     */
+    private static long sipHash24(long k0, long k1, long m0, long m1, long m2, long m3, long m4, long m5) {
+        long v0 = k0 ^ 0x736f6d6570736575L;
+        long v1 = k1 ^ 0x646f72616e646f6dL;
+        long v2 = k0 ^ 0x6c7967656e657261L;
+        long v3 = k1 ^ 0x7465646279746573L;
+
+        // compression - 워드마다 2라운드
+        for (int i = 0; i < 7; i++) {
+            long m = switch (i) {
+                case 0 -> m0;
+                case 1 -> m1;
+                case 2 -> m2;
+                case 3 -> m3;
+                case 4 -> m4;
+                case 5 -> m5;
+                default -> 48L << 56;   // 마지막 블록: 입력 길이
+            };
+            v3 ^= m;
+            for (int r = 0; r < 2; r++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+
+        // finalization - 4라운드
+        v2 ^= 0xff;
+        for (int r = 0; r < 4; r++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    /**
+     * 16byte 키 (hex 32자) → (k0, k1)
+     */
+    static long[] parseKey(String hexKey) {
+        if (hexKey == null || !hexKey.matches("[0-9a-fA-F]{32}")) {
+            throw new IllegalArgumentException("감사 로그 키는 hex 32자여야 합니다");
+        }
+        return new long[]{
+                Long.reverseBytes(Long.parseUnsignedLong(hexKey.substring(0, 16), 16)),
+                Long.reverseBytes(Long.parseUnsignedLong(hexKey.substring(16, 32), 16))
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.coupon.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감사 로그 writer 상태 (이름 auditLog, 중단되면 DOWN → readiness 그룹에서 트래픽 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogHealthIndicator implements HealthIndicator {
+
+    private final AuditLogWriter auditLogWriter;
+
+    @Override
+    public Health health() {
+        if (!auditLogWriter.isWritable()) {
+            return Health.down().withDetail("reason", "감사 로그 writer 중단").build();
+        }
+        return Health.up().withDetail("writtenSequence", auditLogWriter.getWrittenSequence()).build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.api.coupon.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 세그먼트 스캔/검증 도구
+ *
+ * 사용법: COUPON_AUDIT_KEY=<hex 32자> ./gradlew auditScan -PauditDir=<디렉터리> [-PauditArgs="--verify --user=1"]
+ *   --key=HEX      COUPON_AUDIT_KEY 대신 키 지정 (둘 다 없으면 종료 코드 2)
+ *   --verify       체인 hash 검증만 수행 (레코드 출력 없음)
+ *   --user=ID      해당 사용자 레코드만 출력
+ *   --coupon=ID    해당 쿠폰 레코드만 출력
+ *
+ * 검증 실패 시 종료 코드 1
+ */
+public class AuditLogReader {
+
+    private final long k0;
+    private final long k1;
+
+    public AuditLogReader(String hexKey) {
+        long[] key = AuditFormat.parseKey(hexKey);
+        this.k0 = key[0];
+        this.k1 = key[1];
+    }
+
+    /**
+     * 디렉터리의 모든 세그먼트를 순서대로 읽으며 체인을 검증
+     *
+     * @return 검증 결과 (첫 번째 불일치 위치 포함)
+     */
+    public ScanResult scan(Path directory, Consumer<AuditRecord> consumer) throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(AuditFormat::isSegmentFile).sorted().toList();
+        }
+
+        long expectedSequence = 1;
+        long hash = 0;
+        long count = 0;
+        for (Path path : segments) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                AuditFormat.checkHeader(segment, path);
+                if (AuditFormat.firstSequence(segment) != expectedSequence || AuditFormat.prevHash(segment) != hash) {
+                    return ScanResult.broken(count, path, "세그먼트 연결 불일치 (누락/교체된 세그먼트)");
+                }
+
+                int capacity = AuditFormat.capacity(segment);
+                for (int i = 0; i < capacity; i++) {
+                    AuditRecord record = AuditFormat.readRecord(segment, i);
+                    if (record.getSequence() == 0) {
+                        break;   // 기록되지 않은 영역
+                    }
+                    long expectedHash = AuditFormat.chainHash(k0, k1, hash, record.getSequence(),
+                            record.getUserId(), record.getCouponId(), record.getTimestampMillis(), record.getOutcomeCode());
+                    if (record.getSequence() != expectedSequence || record.getHash() != expectedHash) {
+                        return ScanResult.broken(count, path, "레코드 변조 의심 (sequence=" + record.getSequence() + ")");
+                    }
+                    consumer.accept(record);
+                    hash = record.getHash();
+                    expectedSequence++;
+                    count++;
+                }
+            }
+        }
+        return ScanResult.valid(count);
+    }
+
+    public record ScanResult(boolean valid, long recordCount, Path brokenSegment, String message) {
+        static ScanResult valid(long recordCount) {
+            return new ScanResult(true, recordCount, null, null);
+        }
+
+        static ScanResult broken(long recordCount, Path segment, String message) {
+            return new ScanResult(false, recordCount, segment, message);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: AuditLogReader <dir> [--key=HEX] [--verify] [--user=ID] [--coupon=ID]");
+            System.exit(2);
+        }
+        Path directory = Paths.get(args[0]);
+        String key = System.getenv("COUPON_AUDIT_KEY");
+        boolean verifyOnly = false;
+        Long userId = null;
+        Long couponId = null;
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--verify")) {
+                verifyOnly = true;
+            } else if (arg.startsWith("--key=")) {
+                key = arg.substring("--key=".length());
+            } else if (arg.startsWith("--user=")) {
+                userId = Long.parseLong(arg.substring("--user=".length()));
+            } else if (arg.startsWith("--coupon=")) {
+                couponId = Long.parseLong(arg.substring("--coupon=".length()));
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            }
+        }
+
+        if (key == null || key.isBlank()) {
+            System.err.println("감사 로그 키가 없습니다. COUPON_AUDIT_KEY 환경 변수 또는 --key=HEX 를 지정하세요");
+            System.exit(2);
+        }
+
+        boolean print = !verifyOnly;
+        Long userFilter = userId;
+        Long couponFilter = couponId;
+        ScanResult result = new AuditLogReader(key).scan(directory, record -> {
+            if (print && (userFilter == null || record.getUserId() == userFilter)
+                    && (couponFilter == null || record.getCouponId() == couponFilter)) {
+                System.out.println(record);
+            }
+        });
+
+        if (result.valid()) {
+            System.out.println("OK - " + result.recordCount() + " records, chain verified");
+        } else {
+            System.out.println("BROKEN after " + result.recordCount() + " records: "
+                    + result.message() + " [" + result.brokenSegment() + "]");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.api.coupon.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 쿠폰 발급/사용 감사 로그 (append-only, memory-mapped 세그먼트)
+ *
+ * 요청 스레드:
+ *   AtomicLong 으로 sequence 예약 (lock-free) → 미리 할당된 ring 슬롯에 필드 기록 → published 표시
+ *   할당/IO/락 없음 (ring 이 가득 찬 경우에만 writer 를 기다림)
+ *
+ * writer 스레드 (1개):
+ *   sequence 순서대로 ring 을 읽어 체인 hash 계산 후 mmap 세그먼트에 기록
+ *   flushIntervalMillis 마다 force() (fsync), 세그먼트가 가득 차면 다음 파일로 교체
+ *
+ * 재시작 시 마지막 세그먼트의 유효한 마지막 레코드부터 sequence/hash 체인을 이어간다.
+ * 디렉터리는 lock 파일로 한 프로세스만 사용
+ * 활성화 시 디렉터리(coupon.audit.dir)와 키(coupon.audit.key)를 반드시 지정해야 함 (기본값 없음, prod 프로파일에서 활성화)
+ * writer 가 중단되면 이후 기록은 불가 → 발급/사용 커밋 전에 isWritable/checkWritable 로 확인
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentCapacity;
+    private final long flushIntervalNanos;
+    private final long k0;
+    private final long k1;
+
+    // ring buffer (슬롯별 필드를 배열로 나눠 미리 할당)
+    private final int ringMask;
+    private final long[] ringUserIds;
+    private final long[] ringCouponIds;
+    private final long[] ringTimestamps;
+    private final int[] ringOutcomes;
+    private final AtomicLongArray ringPublished;
+
+    private final AtomicLong claimedSequence = new AtomicLong();
+    private volatile long writtenSequence;
+
+    // writer 스레드 전용 상태
+    private FileChannel lockChannel;
+    private FileLock directoryLock;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private int segmentPosition;
+    private long lastHash;
+    private long lastFlushNanos;
+    private boolean dirty;
+
+    private volatile boolean running;
+    private volatile boolean writerFailed;
+    private volatile boolean writerStopped;
+    private Thread writerThread;
+
+    public AuditLogWriter(@Value("${coupon.audit.enabled:false}") boolean enabled,
+                          @Value("${coupon.audit.dir:}") String directory,
+                          @Value("${coupon.audit.ring-size:65536}") int ringSize,
+                          @Value("${coupon.audit.segment-records:1048576}") int segmentCapacity,
+                          @Value("${coupon.audit.flush-interval-ms:1000}") long flushIntervalMillis,
+                          @Value("${coupon.audit.key:}") String hexKey) {
+        if (Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("coupon.audit.ring-size 는 2의 거듭제곱이어야 합니다");
+        }
+        if (enabled && directory.isBlank()) {
+            throw new IllegalStateException("coupon.audit.dir (COUPON_AUDIT_DIR) 를 지정해야 합니다");
+        }
+        if (enabled && hexKey.isBlank()) {
+            throw new IllegalStateException("coupon.audit.key (COUPON_AUDIT_KEY) 를 지정해야 합니다");
+        }
+        long[] key = enabled ? AuditFormat.parseKey(hexKey) : new long[2];
+        this.enabled = enabled;
+        this.directory = enabled ? Paths.get(directory) : null;
+        this.segmentCapacity = segmentCapacity;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.k0 = key[0];
+        this.k1 = key[1];
+        this.ringMask = ringSize - 1;
+        this.ringUserIds = new long[ringSize];
+        this.ringCouponIds = new long[ringSize];
+        this.ringTimestamps = new long[ringSize];
+        this.ringOutcomes = new int[ringSize];
+        this.ringPublished = new AtomicLongArray(ringSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            lockDirectory();
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 초기화에 실패했습니다: " + directory, e);
+        }
+        running = true;
+        writerThread = new Thread(this::run, "coupon-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 감사 레코드 추가 (요청 스레드에서 호출, 할당 없음)
+     */
+    public void append(long userId, long couponId, AuditOutcome outcome) {
+        if (writerFailed) {
+            throw new IllegalStateException("감사 로그 writer 가 중단되어 기록할 수 없습니다");
+        }
+        if (!running) {
+            return;
+        }
+        long sequence = claimedSequence.incrementAndGet();
+        // ring 이 한 바퀴 앞서 있으면 writer 가 따라올 때까지 대기 (기록 유실 없음)
+        // writer 가 죽으면 자리가 나지 않으므로 대기하지 않고 실패
+        while (sequence - ringMask - 1 > writtenSequence) {
+            if (writerStopped) {
+                throw new IllegalStateException("감사 로그 writer 가 중단되어 기록할 수 없습니다");
+            }
+            LockSupport.parkNanos(1_000);
+        }
+        int slot = (int) sequence & ringMask;
+        ringUserIds[slot] = userId;
+        ringCouponIds[slot] = couponId;
+        ringTimestamps[slot] = System.currentTimeMillis();
+        ringOutcomes[slot] = outcome.getCode();
+        ringPublished.lazySet(slot, sequence);   // 필드 기록 이후에 보이도록 release
+    }
+
+    /**
+     * writer 가 살아 있어 append 가 기록될 수 있는지 (비활성화 상태면 항상 true)
+     */
+    public boolean isWritable() {
+        return !enabled || !(writerFailed || writerStopped);
+    }
+
+    /**
+     * 기록할 수 없으면 IllegalStateException (커밋 이후의 append 실패는 되돌릴 수 없으므로 커밋 전에 호출)
+     */
+    public void checkWritable() {
+        if (!isWritable()) {
+            throw new IllegalStateException("감사 로그 writer 가 중단되어 기록할 수 없습니다");
+        }
+    }
+
+    /**
+     * 디스크(페이지 캐시 포함)에 기록 완료된 마지막 sequence
+     */
+    public long getWrittenSequence() {
+        return writtenSequence;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        lastFlushNanos = System.nanoTime();
+        try {
+            while (running || writtenSequence < claimedSequence.get()) {
+                boolean wrote = drain();
+                long now = System.nanoTime();
+                if (dirty && now - lastFlushNanos >= flushIntervalNanos) {
+                    flush();
+                }
+                if (!wrote) {
+                    LockSupport.parkNanos(100_000);
+                }
+            }
+            flush();
+        } catch (IOException | RuntimeException e) {
+            writerFailed = true;
+            running = false;
+            log.error("감사 로그 기록 중단", e);
+        } finally {
+            writerStopped = true;
+            closeQuietly();
+        }
+    }
+
+    /**
+     * published 된 레코드를 순서대로 기록
+     */
+    private boolean drain() throws IOException {
+        boolean wrote = false;
+        long next = writtenSequence + 1;
+        int slot = (int) next & ringMask;
+        while (ringPublished.get(slot) == next) {
+            if (segmentPosition == segmentCapacity) {
+                rotate(next);
+            }
+            long timestamp = ringTimestamps[slot];
+            long hash = AuditFormat.chainHash(k0, k1, lastHash, next,
+                    ringUserIds[slot], ringCouponIds[slot], timestamp, ringOutcomes[slot]);
+            AuditFormat.writeRecord(segment, segmentPosition++, next,
+                    ringUserIds[slot], ringCouponIds[slot], timestamp, ringOutcomes[slot], hash);
+            lastHash = hash;
+            writtenSequence = next;   // 슬롯 재사용 허용
+            dirty = true;
+            wrote = true;
+
+            next++;
+            slot = (int) next & ringMask;
+        }
+        return wrote;
+    }
+
+    private void flush() {
+        if (segment != null && dirty) {
+            segment.force();
+            dirty = false;
+        }
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private void lockDirectory() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve("audit.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            directoryLock = null;
+        }
+        if (directoryLock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("감사 로그 디렉터리를 다른 writer 가 사용 중입니다: " + directory);
+        }
+    }
+
+    /**
+     * 마지막 세그먼트에서 유효한 마지막 레코드를 찾아 이어서 기록
+     * (sequence 가 비었거나 hash 가 맞지 않는 레코드부터는 미완료 기록으로 보고 덮어씀)
+     */
+    private void recover() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(AuditFormat::isSegmentFile).sorted().toList();
+        }
+        if (segments.isEmpty()) {
+            openSegment(0, 1, 0L);
+            return;
+        }
+
+        Path last = segments.get(segments.size() - 1);
+        segmentChannel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentChannel.size());
+        AuditFormat.checkHeader(segment, last);
+        if (AuditFormat.capacity(segment) != segmentCapacity) {
+            // 설정이 바뀌었으면 다음 세그먼트부터 새 크기 적용
+            log.info("감사 로그 세그먼트 크기 변경: {} → {}", AuditFormat.capacity(segment), segmentCapacity);
+        }
+        segmentIndex = AuditFormat.segmentIndex(segment);
+
+        int capacity = AuditFormat.capacity(segment);
+        long expected = AuditFormat.firstSequence(segment);
+        long hash = AuditFormat.prevHash(segment);
+        int position = 0;
+        while (position < capacity) {
+            AuditRecord record = AuditFormat.readRecord(segment, position);
+            if (record.getSequence() != expected || record.getHash() != AuditFormat.chainHash(k0, k1, hash,
+                    record.getSequence(), record.getUserId(), record.getCouponId(),
+                    record.getTimestampMillis(), record.getOutcomeCode())) {
+                break;
+            }
+            hash = record.getHash();
+            expected++;
+            position++;
+        }
+
+        lastHash = hash;
+        writtenSequence = expected - 1;
+        claimedSequence.set(writtenSequence);
+        segmentPosition = capacity == segmentCapacity ? position : segmentCapacity;  // 크기가 다르면 바로 교체
+        log.info("감사 로그 재개. segment={}, lastSequence={}", last.getFileName(), writtenSequence);
+    }
+
+    private void rotate(long firstSequence) throws IOException {
+        flush();
+        segmentChannel.close();
+        openSegment(segmentIndex + 1, firstSequence, lastHash);
+    }
+
+    private void openSegment(long index, long firstSequence, long prevHash) throws IOException {
+        Path path = directory.resolve(AuditFormat.segmentFileName(index));
+        segmentChannel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, AuditFormat.segmentSize(segmentCapacity));
+        AuditFormat.writeHeader(segment, index, firstSequence, prevHash, segmentCapacity);
+        segment.force();
+        segmentIndex = index;
+        segmentPosition = 0;
+        writtenSequence = firstSequence - 1;
+        claimedSequence.compareAndSet(0, writtenSequence);
+    }
+
+    private void closeQuietly() {
+        try {
+            if (segmentChannel != null) {
+                segmentChannel.close();
+            }
+            if (directoryLock != null) {
+                directoryLock.release();
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("감사 로그 파일 닫기 실패", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.api.coupon.audit;
+
+/**
+ * 감사 로그 이벤트 종류 (레코드에는 code만 기록)
+ */
+public enum AuditOutcome {
+    ISSUED(1),      // 쿠폰 발급
+    REDEEMED(2),    // 쿠폰 사용
+    REJECTED(3);    // 쿠폰 발급 거절 (중복, 수량 소진, 기간 외)
+
+    private final int code;
+
+    AuditOutcome(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static AuditOutcome fromCode(int code) {
+        for (AuditOutcome outcome : values()) {
+            if (outcome.code == code) {
+                return outcome;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 감사 로그 코드입니다: " + code);
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.coupon.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 감사 로그 레코드 1건 (읽기 도구용)
+ */
+@Getter
+@AllArgsConstructor
+public class AuditRecord {
+    private final long sequence;
+    private final long userId;
+    private final long couponId;
+    private final long timestampMillis;
+    private final int outcomeCode;
+    private final long hash;
+
+    @Override
+    public String toString() {
+        return sequence + "\t" + Instant.ofEpochMilli(timestampMillis) + "\t"
+                + AuditOutcome.fromCode(outcomeCode) + "\tuser=" + userId + "\tcoupon=" + couponId
+                + "\thash=" + Long.toHexString(hash);
+    }
+}
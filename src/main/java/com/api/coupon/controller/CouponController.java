@@ -1,10 +1,27 @@
 package com.api.coupon.controller;
 
+import com.api.coupon.dto.BatchCalculateDiscountRequest;
+import com.api.coupon.dto.BatchCalculateDiscountResponse;
 import com.api.coupon.dto.CalculateDiscountRequest;
 import com.api.coupon.dto.CalculateDiscountResponse;
 import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.dto.CouponStatsResponse;
 import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.dto.OptimizeCouponRequest;
+import com.api.coupon.dto.WaitingTicketResponse;
+import com.api.coupon.service.CouponIssueTelemetry;
+import com.api.coupon.service.CouponOptimizeService;
+import com.api.coupon.service.CouponQuoteService;
 import com.api.coupon.service.CouponService;
+import com.api.coupon.service.CouponServiceWithAtomicGate;
+import com.api.coupon.service.CouponServiceWithConditionalUpdate;
+import com.api.coupon.service.CouponWaitingRoom;
+import com.platform.common.web.RepresentationCache;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +34,13 @@ import java.util.List;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponServiceWithAtomicGate atomicGateService;
+    private final CouponServiceWithConditionalUpdate conditionalUpdateService;
+    private final CouponWaitingRoom couponWaitingRoom;
+    private final CouponOptimizeService couponOptimizeService;
+    private final CouponQuoteService couponQuoteService;
+    private final CouponIssueTelemetry couponIssueTelemetry;
+    private final RepresentationCache representationCache;
 
     /**
      * 쿠폰 발급
@@ -27,6 +51,42 @@ public class CouponController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 쿠폰 발급 (메모리 카운터 CAS - Lock-free)
+     */
+    @PostMapping("/issue/atomic")
+    public ResponseEntity<CouponResponse> issueCouponWithAtomicGate(@RequestBody IssueCouponRequest request) {
+        CouponResponse response = atomicGateService.issueCoupon(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 쿠폰 발급 (조건부 UPDATE)
+     */
+    @PostMapping("/issue/conditional")
+    public ResponseEntity<CouponResponse> issueCouponWithConditionalUpdate(@RequestBody IssueCouponRequest request) {
+        CouponResponse response = conditionalUpdateService.issueCoupon(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 쿠폰 발급 대기열 진입 (대기 번호 즉시 발급)
+     */
+    @PostMapping("/issue/queue")
+    public ResponseEntity<WaitingTicketResponse> enterWaitingRoom(@RequestBody IssueCouponRequest request) {
+        WaitingTicketResponse response = couponWaitingRoom.enter(request);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 대기 순번 / 발급 결과 조회
+     */
+    @GetMapping("/issue/queue/{ticketId}")
+    public ResponseEntity<WaitingTicketResponse> getWaitingTicket(@PathVariable String ticketId) {
+        WaitingTicketResponse response = couponWaitingRoom.getTicket(ticketId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 할인 금액 계산
      */
@@ -38,12 +98,34 @@ public class CouponController {
     }
 
     /**
-     * 발급 가능한 쿠폰 목록 조회
+     * 할인 금액 일괄 계산 (견적별 성공/실패)
      */
+    @PostMapping("/calculate/batch")
+    public ResponseEntity<BatchCalculateDiscountResponse> calculateDiscountBatch(
+            @RequestBody BatchCalculateDiscountRequest request) {
+        BatchCalculateDiscountResponse response = couponQuoteService.calculateBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 최대 할인 쿠폰 조합 추천
+     */
+    @PostMapping("/optimize")
+    public ResponseEntity<CalculateDiscountResponse> optimizeDiscount(
+            @RequestBody OptimizeCouponRequest request) {
+        CalculateDiscountResponse response = couponOptimizeService.optimize(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 발급 가능한 쿠폰 목록 조회 (ETag 지원 - If-None-Match 일치 시 304)
+     */
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+        array = @ArraySchema(schema = @Schema(implementation = CouponResponse.class))))
     @GetMapping("/available")
-    public ResponseEntity<List<CouponResponse>> getAvailableCoupons() {
-        List<CouponResponse> coupons = couponService.getAvailableCoupons();
-        return ResponseEntity.ok(coupons);
+    public ResponseEntity<byte[]> getAvailableCoupons(HttpServletRequest request) {
+        return representationCache.respond(request, "coupons-available",
+                couponService.getAvailableCouponsVersion(), couponService::getAvailableCoupons);
     }
 
     /**
@@ -54,4 +136,12 @@ public class CouponController {
         List<CouponResponse> coupons = couponService.getUserCoupons(userId);
         return ResponseEntity.ok(coupons);
     }
+
+    /**
+     * 쿠폰 발급 실시간 지표 (메모리 집계, DB 조회 없음)
+     */
+    @GetMapping("/{couponId}/stats")
+    public ResponseEntity<CouponStatsResponse> getCouponStats(@PathVariable Long couponId) {
+        return ResponseEntity.ok(couponIssueTelemetry.getStats(couponId));
+    }
 }
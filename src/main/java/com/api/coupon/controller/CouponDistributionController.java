@@ -0,0 +1,53 @@
+package com.api.coupon.controller;
+
+import com.api.coupon.dto.CreateDistributionRequest;
+import com.api.coupon.dto.DistributionJobResponse;
+import com.api.coupon.service.CouponDistributionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/coupons/distributions")
+@RequiredArgsConstructor
+public class CouponDistributionController {
+
+    private final CouponDistributionService couponDistributionService;
+
+    /**
+     * 쿠폰 일괄 지급 작업 생성 (사용자 ID 목록)
+     */
+    @PostMapping
+    public ResponseEntity<DistributionJobResponse> createDistribution(@RequestBody CreateDistributionRequest request) {
+        DistributionJobResponse response = couponDistributionService.create(
+                request.getCouponId(), request.getUserIds(), request.getChunkSize());
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * 쿠폰 일괄 지급 작업 생성 (사용자 ID 파일 업로드 - 한 줄에 하나)
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DistributionJobResponse> uploadDistribution(
+            @RequestParam Long couponId,
+            @RequestParam(required = false) Integer chunkSize,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream userIdStream = file.getInputStream()) {
+            DistributionJobResponse response = couponDistributionService.create(couponId, userIdStream, chunkSize);
+            return ResponseEntity.accepted().body(response);
+        }
+    }
+
+    /**
+     * 일괄 지급 진행 상황 조회
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<DistributionJobResponse> getDistribution(@PathVariable Long jobId) {
+        return ResponseEntity.ok(couponDistributionService.getJob(jobId));
+    }
+}
@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +12,7 @@ import java.time.LocalDateTime;
  * 쿠폰 엔티티
  */
 @Entity
+@Table(indexes = @Index(name = "idx_coupon_end_date", columnList = "end_date"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,7 +42,7 @@ public class Coupon {
     @Column(nullable = false)
     private LocalDateTime startDate;
 
-    @Column(nullable = false)
+    @Column(name = "end_date", nullable = false)
     private LocalDateTime endDate;
 
     @Column(nullable = false)
@@ -75,24 +75,28 @@ public class Coupon {
      * 할인 금액 계산
      */
     public int calculateDiscount(int orderAmount) {
-        if (type == CouponType.FIXED) {
-            // 정액 할인
-            return Math.min(discountValue, orderAmount);
-        } else {
-            // 정률 할인
-            int discount = (int) (orderAmount * discountValue / 100.0);
-            if (maxDiscountAmount != null) {
-                discount = Math.min(discount, maxDiscountAmount);
-            }
-            return discount;
-        }
+        // 정수 커널로 계산 (정률 할인도 double 없이 원 단위 버림)
+        return (int) DiscountKernel.discount(type, orderAmount, discountValue, maxDiscountLimit());
+    }
+
+    /**
+     * 커널용 최대 할인 금액 (없으면 NO_LIMIT)
+     */
+    public long maxDiscountLimit() {
+        return maxDiscountAmount == null ? DiscountKernel.NO_LIMIT : maxDiscountAmount;
     }
 
     /**
      * 쿠폰 사용 가능 여부 확인
      */
     public boolean isValid() {
-        LocalDateTime now = LocalDateTime.now();
+        return isValidAt(LocalDateTime.now());
+    }
+
+    /**
+     * 기준 시각에 쿠폰 사용 가능 여부 확인 (여러 쿠폰을 같은 시각으로 판단할 때)
+     */
+    public boolean isValidAt(LocalDateTime now) {
         return now.isAfter(startDate) && now.isBefore(endDate);
     }
 
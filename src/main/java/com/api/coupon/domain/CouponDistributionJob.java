@@ -0,0 +1,93 @@
+package com.api.coupon.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 일괄 지급 작업
+ *
+ * 대상 사용자 ID는 파일(한 줄에 하나)로 보관하고,
+ * 청크 커밋마다 같은 트랜잭션에서 cursor(처리한 줄 수)를 함께 갱신한다.
+ * → 서버가 죽어도 마지막 커밋 지점부터 이어서 처리 (청크 단위 정확히 한 번)
+ */
+@Entity
+@Table(name = "coupon_distribution_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponDistributionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private String sourcePath;      // 대상 사용자 ID 파일
+
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DistributionStatus status;
+
+    @Column(nullable = false)
+    private Long totalCount;        // 대상 건수 (파일 줄 수)
+
+    @Column(name = "cursor_position", nullable = false)
+    private Long cursor;            // 처리 완료한 줄 수
+
+    @Column(nullable = false)
+    private Long issuedCount;       // 지급 건수
+
+    @Column(nullable = false)
+    private Long skippedCount;      // 이미 보유 / 중복으로 건너뛴 건수
+
+    private String failureReason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public CouponDistributionJob(Long couponId, String sourcePath, Integer chunkSize, Long totalCount) {
+        this.couponId = couponId;
+        this.sourcePath = sourcePath;
+        this.chunkSize = chunkSize;
+        this.totalCount = totalCount;
+        this.status = DistributionStatus.RUNNING;
+        this.cursor = 0L;
+        this.issuedCount = 0L;
+        this.skippedCount = 0L;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     */
+    public void advance(int processed, int issued, int skipped) {
+        this.cursor += processed;
+        this.issuedCount += issued;
+        this.skippedCount += skipped;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = DistributionStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = DistributionStatus.FAILED;
+        this.failureReason = reason;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
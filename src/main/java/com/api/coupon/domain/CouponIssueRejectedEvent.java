@@ -0,0 +1,14 @@
+package com.api.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 쿠폰 발급 거절 이벤트 (중복 / 수량 소진 / 기간 외, 롤백과 무관하게 즉시 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class CouponIssueRejectedEvent {
+    private final Long couponId;
+    private final Long userId;
+}
@@ -0,0 +1,14 @@
+package com.api.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 쿠폰 발급 완료 이벤트 (커밋 이후 처리용)
+ */
+@Getter
+@AllArgsConstructor
+public class CouponIssuedEvent {
+    private final Long couponId;
+    private final Long userId;
+}
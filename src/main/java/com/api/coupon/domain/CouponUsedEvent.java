@@ -0,0 +1,16 @@
+package com.api.coupon.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 쿠폰 사용 완료 이벤트 (커밋 이후 처리용)
+ */
+@Getter
+@AllArgsConstructor
+public class CouponUsedEvent {
+    private final Long userId;
+    private final List<Long> couponIds;
+}
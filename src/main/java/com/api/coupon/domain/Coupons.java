@@ -1,6 +1,8 @@
 package com.api.coupon.domain;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class Coupons {
@@ -13,7 +15,7 @@ public class Coupons {
 
     public DiscountResult calculateDiscount(Integer orderAmount) {
         int totalDiscount = 0;
-        List<CouponDiscountInfo> appliedCoupons = new ArrayList<>();
+        List<CouponDiscountInfo> appliedCoupons = new ArrayList<>(coupons.size());
 
         for (Coupon coupon : coupons) {
             coupon.validateForDiscount(orderAmount);
@@ -22,11 +24,7 @@ public class Coupons {
             int discountAmount = coupon.calculateDiscount(orderAmount);
             totalDiscount += discountAmount;
 
-            appliedCoupons.add(CouponDiscountInfo.builder()
-                    .couponId(coupon.getId())
-                    .discountAmount(discountAmount)
-                    .couponName(coupon.getName())
-                    .build());
+            appliedCoupons.add(new CouponDiscountInfo(coupon.getId(), coupon.getName(), discountAmount));
         }
 
         // 총 할인 금액이 주문 금액을 초과하지 않도록 조정
@@ -41,5 +39,71 @@ public class Coupons {
                 .finalAmount(finalAmount).build();
     }
 
+    /**
+     * 총 할인 금액만 계산 (쿠폰별 내역 객체를 만들지 않음)
+     * 검증 규칙과 결과는 calculateDiscount 와 동일
+     */
+    public long calculateTotalDiscount(int orderAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        long totalDiscount = 0;
+        for (int i = 0, size = coupons.size(); i < size; i++) {
+            Coupon coupon = coupons.get(i);
+            if (!coupon.isValidAt(now)) {
+                throw new IllegalStateException("쿠폰이 사용 불가합니다.");
+            }
+            if (!coupon.isMinOrderAmount(orderAmount)) {
+                throw new IllegalArgumentException("최소 주문 금액을 만족하지 않습니다");
+            }
+            totalDiscount += DiscountKernel.discount(coupon.getType(), orderAmount,
+                    coupon.getDiscountValue(), coupon.maxDiscountLimit());
+        }
+        return DiscountKernel.capTotal(totalDiscount, orderAmount);
+    }
+
+    /**
+     * 최대 할인 쿠폰 조합 선택
+     *
+     * 쿠폰별 할인 금액은 주문 금액에만 의존하고 서로 영향을 주지 않으므로
+     * - k장 조합 중 최대 할인 = 할인 금액 상위 k장
+     * - 총 할인은 주문 금액을 넘을 수 없으므로, 상위부터 더하다 주문 금액에 도달하면 멈춤
+     * 즉 "할인 금액 내림차순 prefix 중 가장 짧은 최적해"가 최대 할인 + 최소 쿠폰 수 조합이다.
+     * 부분집합 탐색 없이 O(n log n), 쿠폰별 할인 금액은 한 번만 계산한다.
+     *
+     * @param maxCouponCount 중복 적용 가능한 최대 쿠폰 수
+     */
+    public Coupons selectBestCombination(int orderAmount, int maxCouponCount) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 적용 가능한 쿠폰과 할인 금액 (한 번만 계산)
+        int size = coupons.size();
+        Coupon[] candidates = new Coupon[size];
+        int[] discounts = new int[size];
+        int count = 0;
+        for (Coupon coupon : coupons) {
+            if (coupon.isValidAt(now) && coupon.isMinOrderAmount(orderAmount)) {
+                candidates[count] = coupon;
+                discounts[count] = coupon.calculateDiscount(orderAmount);
+                count++;
+            }
+        }
+
+        // 할인 금액 내림차순
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(discounts[b], discounts[a]));
 
+        List<Coupon> selected = new ArrayList<>();
+        long totalDiscount = 0;
+        for (int i = 0; i < count && selected.size() < maxCouponCount && totalDiscount < orderAmount; i++) {
+            int index = order[i];
+            if (discounts[index] <= 0) {
+                break;
+            }
+            selected.add(candidates[index]);
+            totalDiscount += discounts[index];
+        }
+        return new Coupons(selected);
+    }
 }
@@ -0,0 +1,74 @@
+package com.api.coupon.domain;
+
+import java.math.RoundingMode;
+
+/**
+ * 할인 금액 계산 커널 (정수 연산, 객체 할당 없음)
+ *
+ * - 금액은 최소 화폐 단위(원)의 long
+ * - 정률 할인은 double 없이 orderAmount * rate / 100 을 정수로 계산하고 반올림 방식을 명시
+ * - int 곱셈 오버플로 없음 (long + multiplyExact)
+ */
+public final class DiscountKernel {
+
+    /**
+     * 기본 반올림 방식 - 원 단위 버림 (기존 (int) 캐스팅과 동일)
+     */
+    public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.DOWN;
+
+    /**
+     * 최대 할인 금액 없음
+     */
+    public static final long NO_LIMIT = -1L;
+
+    private static final long PERCENT = 100L;
+
+    private DiscountKernel() {
+    }
+
+    public static long discount(CouponType type, long orderAmount, long discountValue, long maxDiscountAmount) {
+        return discount(type, orderAmount, discountValue, maxDiscountAmount, DEFAULT_ROUNDING);
+    }
+
+    public static long discount(CouponType type, long orderAmount, long discountValue,
+                                long maxDiscountAmount, RoundingMode roundingMode) {
+        if (type == CouponType.FIXED) {
+            // 정액 할인
+            return Math.min(discountValue, orderAmount);
+        }
+        // 정률 할인
+        long discount = percentage(orderAmount, discountValue, roundingMode);
+        if (maxDiscountAmount != NO_LIMIT) {
+            discount = Math.min(discount, maxDiscountAmount);
+        }
+        return discount;
+    }
+
+    /**
+     * orderAmount * rate / 100 (음수가 아닌 금액 기준)
+     */
+    public static long percentage(long orderAmount, long rate, RoundingMode roundingMode) {
+        long numerator = Math.multiplyExact(orderAmount, rate);
+        long quotient = numerator / PERCENT;
+        long remainder = numerator % PERCENT;
+        if (remainder == 0) {
+            return quotient;
+        }
+        return switch (roundingMode) {
+            case DOWN, FLOOR -> quotient;
+            case UP, CEILING -> quotient + 1;
+            case HALF_UP -> remainder * 2 >= PERCENT ? quotient + 1 : quotient;
+            case HALF_DOWN -> remainder * 2 > PERCENT ? quotient + 1 : quotient;
+            case HALF_EVEN -> remainder * 2 > PERCENT || (remainder * 2 == PERCENT && (quotient & 1) == 1)
+                    ? quotient + 1 : quotient;
+            case UNNECESSARY -> throw new ArithmeticException("반올림이 필요한 할인 금액입니다");
+        };
+    }
+
+    /**
+     * 총 할인 금액은 주문 금액을 넘을 수 없음
+     */
+    public static long capTotal(long totalDiscount, long orderAmount) {
+        return Math.min(totalDiscount, orderAmount);
+    }
+}
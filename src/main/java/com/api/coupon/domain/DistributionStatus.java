@@ -0,0 +1,10 @@
+package com.api.coupon.domain;
+
+/**
+ * 쿠폰 일괄 지급 작업 상태
+ */
+public enum DistributionStatus {
+    RUNNING,    // 진행 중 (재시작 시 이어서 처리)
+    COMPLETED,  // 완료
+    FAILED      // 실패 (수량 부족 등)
+}
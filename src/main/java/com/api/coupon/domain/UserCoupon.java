@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
  * 사용자가 보유한 쿠폰
  */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_coupon_user_id_coupon_id", columnNames = {"user_id", "coupon_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,11 +24,11 @@ public class UserCoupon {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(nullable = false)
-    private Long couponId;
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId; // (user_id, coupon_id) 유니크 - 사용 여부와 무관하게 1인 1매
 
     @Column(nullable = false)
     private LocalDateTime issuedAt; // 발급 시간
@@ -0,0 +1,47 @@
+package com.api.coupon.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자가 보유한(미사용) 쿠폰 묶음
+ * 요청한 쿠폰 ID들을 한 번에 조회해 두고, 쿠폰별 검증은 메모리에서 수행
+ */
+public class UserOwnedCoupons {
+
+    private final Set<Long> ownedCouponIds;
+    private final Map<Long, Coupon> coupons;
+
+    public UserOwnedCoupons(Set<Long> ownedCouponIds, Map<Long, Coupon> coupons) {
+        this.ownedCouponIds = Set.copyOf(ownedCouponIds);
+        this.coupons = Map.copyOf(coupons);
+    }
+
+    public boolean isOwned(Long couponId) {
+        return ownedCouponIds.contains(couponId);
+    }
+
+    public Coupon get(Long couponId) {
+        return coupons.get(couponId);
+    }
+
+    /**
+     * 요청 순서대로 쿠폰 반환 (쿠폰별 오류 메시지 유지)
+     */
+    public List<Coupon> resolve(List<Long> couponIds) {
+        List<Coupon> result = new ArrayList<>(couponIds.size());
+        for (Long couponId : couponIds) {
+            if (!isOwned(couponId)) {
+                throw new IllegalArgumentException("보유하지 않은 쿠폰입니다");
+            }
+            Coupon coupon = coupons.get(couponId);
+            if (coupon == null) {
+                throw new IllegalArgumentException("쿠폰이 존재하지 않습니다.");
+            }
+            result.add(coupon);
+        }
+        return result;
+    }
+}
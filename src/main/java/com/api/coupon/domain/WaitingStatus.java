@@ -0,0 +1,10 @@
+package com.api.coupon.domain;
+
+/**
+ * 발급 대기열 상태
+ */
+public enum WaitingStatus {
+    WAITING,    // 대기중
+    ISSUED,     // 발급 완료
+    FAILED      // 발급 실패 (소진, 중복 등)
+}
@@ -0,0 +1,23 @@
+package com.api.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCalculateDiscountRequest {
+    private Long userId;
+    private List<Quote> quotes; // 견적 목록 (응답도 같은 순서)
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Quote {
+        private Integer orderAmount;
+        private List<Long> couponIds;
+    }
+}
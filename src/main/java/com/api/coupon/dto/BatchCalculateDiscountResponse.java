@@ -0,0 +1,32 @@
+package com.api.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCalculateDiscountResponse {
+    private List<QuoteResult> results; // 요청 순서와 동일
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuoteResult {
+        private Integer index;
+        private Boolean success;
+        private CalculateDiscountResponse result;   // 성공 시
+        private String errorMessage;                // 실패 시
+
+        public static QuoteResult success(int index, CalculateDiscountResponse result) {
+            return new QuoteResult(index, true, result, null);
+        }
+
+        public static QuoteResult failure(int index, String errorMessage) {
+            return new QuoteResult(index, false, null, errorMessage);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -21,9 +22,11 @@ public class CalculateDiscountResponse {
 
 
     public static CalculateDiscountResponse of(int orderAmount, DiscountResult discountResult) {
-        List<AppliedCoupon> appliedCouponList = discountResult.getAppliedCoupons().stream()
-                .map(AppliedCoupon::from)
-                .toList();
+        List<CouponDiscountInfo> couponDiscountInfos = discountResult.getAppliedCoupons();
+        List<AppliedCoupon> appliedCouponList = new ArrayList<>(couponDiscountInfos.size());
+        for (CouponDiscountInfo couponDiscountInfo : couponDiscountInfos) {
+            appliedCouponList.add(AppliedCoupon.from(couponDiscountInfo));
+        }
 
         return CalculateDiscountResponse.builder()
                 .finalAmount(discountResult.getFinalAmount())
@@ -42,11 +45,9 @@ public class CalculateDiscountResponse {
         private Integer discountAmount;
 
         public static AppliedCoupon from(CouponDiscountInfo couponDiscountInfo) {
-            return AppliedCoupon.builder()
-                    .couponId(couponDiscountInfo.getCouponId())
-                    .couponName(couponDiscountInfo.getCouponName())
-                    .discountAmount(couponDiscountInfo.getDiscountAmount())
-                    .build();
+            return new AppliedCoupon(couponDiscountInfo.getCouponId(),
+                    couponDiscountInfo.getCouponName(),
+                    couponDiscountInfo.getDiscountAmount());
         }
     }
 
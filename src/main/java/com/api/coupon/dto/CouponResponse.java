@@ -27,6 +27,13 @@ public class CouponResponse {
     private Integer remainingQuantity;
 
     public static CouponResponse from(Coupon coupon) {
+        return from(coupon, coupon.getIssuedQuantity());
+    }
+
+    /**
+     * 발급 수량을 별도로 관리하는 경우 (메모리 카탈로그 등)
+     */
+    public static CouponResponse from(Coupon coupon, int issuedQuantity) {
         return CouponResponse.builder()
                 .id(coupon.getId())
                 .name(coupon.getName())
@@ -37,8 +44,27 @@ public class CouponResponse {
                 .startDate(coupon.getStartDate())
                 .endDate(coupon.getEndDate())
                 .totalQuantity(coupon.getTotalQuantity())
-                .issuedQuantity(coupon.getIssuedQuantity())
-                .remainingQuantity(coupon.getTotalQuantity() - coupon.getIssuedQuantity())
+                .issuedQuantity(issuedQuantity)
+                .remainingQuantity(coupon.getTotalQuantity() - issuedQuantity)
+                .build();
+    }
+
+    /**
+     * 발급 수량만 바꾼 사본 (캐시된 응답에 조회 시점 수량을 채울 때)
+     */
+    public CouponResponse withIssuedQuantity(int issuedQuantity) {
+        return CouponResponse.builder()
+                .id(id)
+                .name(name)
+                .type(type)
+                .discountValue(discountValue)
+                .minOrderAmount(minOrderAmount)
+                .maxDiscountAmount(maxDiscountAmount)
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(issuedQuantity)
+                .remainingQuantity(totalQuantity - issuedQuantity)
                 .build();
     }
 }
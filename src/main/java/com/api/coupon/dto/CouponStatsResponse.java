@@ -0,0 +1,44 @@
+package com.api.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CouponStatsResponse {
+    private Long couponId;
+    private Long attempts;              // 발급 시도
+    private Long issued;                // 발급 성공
+    private Long soldOut;               // 수량 소진으로 거절
+    private Long duplicates;            // 중복 발급으로 거절
+    private Long unavailable;           // 발급 기간 아님
+    private Long lockWaitCount;         // 락 획득 횟수
+    private Double avgLockWaitMillis;   // 평균 락 대기 시간
+    private Double maxLockWaitMillis;   // 최대 락 대기 시간
+    private Double attemptsPerSecond;   // 최근 windowSeconds 초 평균
+    private Double issuedPerSecond;
+    private Integer windowSeconds;
+    private Long remainingQuantity;     // 남은 수량 (알 수 없으면 null)
+
+    public static CouponStatsResponse empty(Long couponId, int windowSeconds, Integer remainingQuantity) {
+        return CouponStatsResponse.builder()
+                .couponId(couponId)
+                .attempts(0L)
+                .issued(0L)
+                .soldOut(0L)
+                .duplicates(0L)
+                .unavailable(0L)
+                .lockWaitCount(0L)
+                .avgLockWaitMillis(0.0)
+                .maxLockWaitMillis(0.0)
+                .attemptsPerSecond(0.0)
+                .issuedPerSecond(0.0)
+                .windowSeconds(windowSeconds)
+                .remainingQuantity(remainingQuantity == null ? null : remainingQuantity.longValue())
+                .build();
+    }
+}
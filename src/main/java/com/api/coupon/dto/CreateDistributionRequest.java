@@ -0,0 +1,16 @@
+package com.api.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateDistributionRequest {
+    private Long couponId;
+    private List<Long> userIds;
+    private Integer chunkSize;      // 선택 (기본값: coupon.distribution.chunk-size)
+}
@@ -0,0 +1,45 @@
+package com.api.coupon.dto;
+
+import com.api.coupon.domain.CouponDistributionJob;
+import com.api.coupon.domain.DistributionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DistributionJobResponse {
+    private Long jobId;
+    private Long couponId;
+    private DistributionStatus status;
+    private Long totalCount;
+    private Long processedCount;
+    private Long issuedCount;
+    private Long skippedCount;
+    private Double progress;        // 진행률 (0 ~ 100)
+    private String failureReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static DistributionJobResponse from(CouponDistributionJob job) {
+        double progress = job.getTotalCount() == 0 ? 100.0 : job.getCursor() * 100.0 / job.getTotalCount();
+        return DistributionJobResponse.builder()
+                .jobId(job.getId())
+                .couponId(job.getCouponId())
+                .status(job.getStatus())
+                .totalCount(job.getTotalCount())
+                .processedCount(job.getCursor())
+                .issuedCount(job.getIssuedCount())
+                .skippedCount(job.getSkippedCount())
+                .progress(progress)
+                .failureReason(job.getFailureReason())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.api.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizeCouponRequest {
+    private Long userId;
+    private Integer orderAmount;
+}
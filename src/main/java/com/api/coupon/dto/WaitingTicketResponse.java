@@ -0,0 +1,21 @@
+package com.api.coupon.dto;
+
+import com.api.coupon.domain.WaitingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitingTicketResponse {
+    private String ticketId;        // 대기표 ID (결과 조회용, 추측할 수 없는 임의 값)
+    private Long sequence;          // 대기 번호 (= 대기열 순번)
+    private Long couponId;
+    private Long userId;
+    private WaitingStatus status;
+    private Long waitingAhead;      // 내 앞에 남은 대기 인원
+    private String message;         // 실패 사유
+}
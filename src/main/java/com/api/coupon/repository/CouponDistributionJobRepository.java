@@ -0,0 +1,12 @@
+package com.api.coupon.repository;
+
+import com.api.coupon.domain.CouponDistributionJob;
+import com.api.coupon.domain.DistributionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CouponDistributionJobRepository extends JpaRepository<CouponDistributionJob, Long> {
+
+    List<CouponDistributionJob> findByStatus(DistributionStatus status);
+}
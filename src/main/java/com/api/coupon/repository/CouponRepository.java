@@ -3,10 +3,13 @@ package com.api.coupon.repository;
 import com.api.coupon.domain.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
@@ -17,4 +20,36 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select c from Coupon  c where c.id = :id")
     Optional<Coupon> findByIdWithPessmisticLock(@Param("id") Long id);
+
+    /**
+     * 발급 수량 원자적 증가 (락 조회 없이 UPDATE 한 번으로 정합)
+     * 총 수량을 넘지 않을 때만 증가하며, 반영된 row 수를 반환
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Coupon c set c.issuedQuantity = c.issuedQuantity + 1 " +
+            "where c.id = :id and c.issuedQuantity < c.totalQuantity")
+    int increaseIssuedQuantity(@Param("id") Long id);
+
+    /**
+     * 발급 슬롯 선점 (조건부 UPDATE 1회)
+     * 기간 내 + 잔여 수량이 있을 때만 issuedQuantity 증가, 반영 건수 반환 (0이면 발급 불가)
+     * 엔티티 조회/Dirty Checking 없이 row 락은 이 문장부터 커밋까지만 유지
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Coupon c set c.issuedQuantity = c.issuedQuantity + 1 " +
+            "where c.id = :id and c.issuedQuantity < c.totalQuantity " +
+            "and c.startDate < :now and c.endDate > :now")
+    int claimIssue(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자가 보유한 미사용 쿠폰 정보 조회 (user_coupon - coupon 조인 1회)
+     */
+    @Query("select c from UserCoupon uc join Coupon c on c.id = uc.couponId " +
+            "where uc.userId = :userId and uc.used = false")
+    List<Coupon> findUnusedByUserId(@Param("userId") Long userId);
+
+    /**
+     * 아직 종료되지 않은 쿠폰 조회 (종료된 과거 쿠폰은 제외)
+     */
+    List<Coupon> findByEndDateAfter(LocalDateTime now);
 }
@@ -1,8 +1,14 @@
 package com.api.coupon.repository;
 
 import com.api.coupon.domain.UserCoupon;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +19,11 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
      */
     Optional<UserCoupon> findByUserIdAndCouponIdAndUsed(Long userId, Long couponId, Boolean used);
 
+    /**
+     * 사용자의 특정 쿠폰 목록 일괄 조회 (IN 쿼리 1회)
+     */
+    List<UserCoupon> findByUserIdAndCouponIdInAndUsed(Long userId, Collection<Long> couponIds, Boolean used);
+
     /**
      * 사용자의 모든 쿠폰 조회
      */
@@ -22,4 +33,27 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
      * 사용자의 사용 가능한 쿠폰 조회
      */
     List<UserCoupon> findByUserIdAndUsed(Long userId, Boolean used);
+
+    /**
+     * 쿠폰 사용 처리 (조건부 UPDATE 1회)
+     * 본인 보유 + 미사용 쿠폰만 사용 처리되며, 반영된 row 수로 검증
+     */
+    @Modifying
+    @Query("update UserCoupon uc set uc.used = true, uc.usedAt = :usedAt " +
+            "where uc.userId = :userId and uc.couponId in :couponIds and uc.used = false")
+    int useCoupons(@Param("userId") Long userId,
+                   @Param("couponIds") Collection<Long> couponIds,
+                   @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 발급 쿠폰 저장 (insert-and-catch)
+     * (user_id, coupon_id) 유니크 제약 위반이면 중복 발급으로 판단
+     */
+    default UserCoupon saveIssuedCoupon(UserCoupon userCoupon) {
+        try {
+            return saveAndFlush(userCoupon);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다", e);
+        }
+    }
 }
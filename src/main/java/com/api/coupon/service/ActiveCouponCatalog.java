@@ -0,0 +1,222 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.repository.CouponRepository;
+import com.platform.common.datasource.ReadOnlyTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 발급 가능 쿠폰 카탈로그 (메모리 인덱스)
+ *
+ * findAll() 후 canIssue()로 거르는 대신, 기간 경계에서만 쿠폰을 넣고 뺀다.
+ * - pending : 시작 전 쿠폰 (startDate 순 우선순위 큐)
+ * - active  : 기간 내 쿠폰 (id 순)
+ * - expiries: active 쿠폰의 종료 시각 (endDate 순 우선순위 큐)
+ * 발급 수량은 기간 인덱스와 별도로 쿠폰별 카운터로 관리한다.
+ *
+ * 조회 비용은 전체 이력이 아니라 진행 중인 쿠폰 수에 비례한다.
+ * 종료되지 않은 쿠폰만 주기적으로 DB에서 다시 읽어 인덱스와 수량을 맞춘다.
+ * - 발급 수량은 줄지 않으므로 재적재 시 (DB 값, 메모리 카운터) 중 큰 값으로 맞춘다
+ *   → DB 조회 이후 ~ 반영 전에 들어온 발급 이벤트도 잃지 않음
+ * - 쿠폰 생성 커밋 시 무효화 (CouponCatalogInvalidator) → 다음 조회에서 재적재
+ * - 재적재 DB 조회는 모니터 밖에서 한 스레드만 (reloadLock), 결과 교체만 모니터 안에서
+ *   → 그동안 다른 조회는 이전 스냅샷으로 응답하고 remainingQuantity/onIssued 도 막히지 않음
+ *   (처음 적재 전에는 보여줄 스냅샷이 없으므로 적재가 끝날 때까지 대기)
+ * - 조회 도중 다시 무효화되면 적재 완료로 치지 않음 → 다음 조회에서 또 재적재
+ * - 재적재는 primary 에서 읽음 (지연된 replica 에서 읽으면 방금 생성된 쿠폰이 다음 재적재까지 빠짐)
+ *
+ * 목록이 바뀔 수 있는 시점(재적재, 기간 경계 통과, 발급)마다 version 을 올린다. (응답 ETag 용)
+ * version 은 프로세스마다 0부터 시작하므로 기동 시 정한 임의 instanceId 를 앞에 붙여
+ * 재시작 전이나 다른 인스턴스의 ETag 와 겹치지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveCouponCatalog {
+
+    private final CouponRepository couponRepository;
+    private final ReadOnlyTransaction readOnlyTransaction;
+
+    private final PriorityQueue<Coupon> pending = new PriorityQueue<>(Comparator.comparing(Coupon::getStartDate));
+    private final PriorityQueue<Coupon> expiries = new PriorityQueue<>(Comparator.comparing(Coupon::getEndDate));
+    private final NavigableMap<Long, Coupon> active = new TreeMap<>();
+    private final Map<Long, AtomicInteger> issuedQuantities = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final String instanceId = Long.toHexString(new SecureRandom().nextLong());
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private long invalidations = 0;
+    private boolean loaded = false;
+    private boolean hasSnapshot = false;
+
+    /**
+     * 발급 가능 쿠폰 목록 (기간 내 + 수량 남음)
+     */
+    public List<CouponResponse> getAvailableCoupons(LocalDateTime now) {
+        reloadIfInvalidated();
+        List<CouponResponse> result = new ArrayList<>();
+        synchronized (this) {
+            advance(now);
+            for (Coupon coupon : active.values()) {
+                int issued = issuedQuantity(coupon);
+                if (issued < coupon.getTotalQuantity()) {
+                    result.add(CouponResponse.from(coupon, issued));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 발급 가능 쿠폰 목록 버전 (now 기준으로 기간 경계를 먼저 반영)
+     */
+    public String getVersion(LocalDateTime now) {
+        reloadIfInvalidated();
+        synchronized (this) {
+            advance(now);
+            return instanceId + "." + Long.toHexString(version.get());
+        }
+    }
+
+    /**
+     * 카탈로그 기준 남은 수량 (카탈로그에 없는 쿠폰이면 null)
+     */
+    public Integer remainingQuantity(Long couponId) {
+        Coupon coupon;
+        synchronized (this) {
+            coupon = active.get(couponId);
+        }
+        return coupon == null ? null : coupon.getTotalQuantity() - issuedQuantity(coupon);
+    }
+
+    /**
+     * 종료되지 않은 쿠폰으로 인덱스 재구성
+     */
+    @Scheduled(fixedDelayString = "${coupon.catalog.refresh-interval-ms:60000}")
+    public void refresh() {
+        reloadLock.lock();
+        try {
+            reload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 다음 조회 시 재적재 (쿠폰 생성 등 기간 인덱스가 바뀐 경우)
+     */
+    public synchronized void invalidate() {
+        invalidations++;
+        loaded = false;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssued(CouponIssuedEvent event) {
+        AtomicInteger issued = issuedQuantities.get(event.getCouponId());
+        if (issued != null) {
+            issued.incrementAndGet();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 무효화된 상태면 재적재 (다른 스레드가 적재 중이면 이전 스냅샷 그대로)
+     */
+    private void reloadIfInvalidated() {
+        boolean firstLoad;
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            firstLoad = !hasSnapshot;
+        }
+        if (firstLoad) {
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                if (loaded) {
+                    return;
+                }
+            }
+            reload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * reloadLock 을 잡은 상태에서만 호출
+     */
+    private void reload() {
+        long invalidation;
+        synchronized (this) {
+            invalidation = invalidations;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Coupon> coupons = readOnlyTransaction.executeOnPrimary(() -> couponRepository.findByEndDateAfter(now));
+
+        synchronized (this) {
+            pending.clear();
+            expiries.clear();
+            active.clear();
+            Set<Long> couponIds = new HashSet<>();
+            for (Coupon coupon : coupons) {
+                pending.add(coupon);
+                couponIds.add(coupon.getId());
+                // 카운터는 교체하지 않고 제자리에서 올림 (동시에 들어오는 onIssued 증가분 보존)
+                issuedQuantities.computeIfAbsent(coupon.getId(), id -> new AtomicInteger())
+                        .accumulateAndGet(coupon.getIssuedQuantity(), Math::max);
+            }
+            issuedQuantities.keySet().retainAll(couponIds);
+            loaded = invalidation == invalidations;
+            hasSnapshot = true;
+            version.incrementAndGet();
+            advance(now);
+        }
+    }
+
+    /**
+     * 경계를 지난 쿠폰만 이동 (시작 → active, 종료 → 제거)
+     */
+    private void advance(LocalDateTime now) {
+        while (!pending.isEmpty() && now.isAfter(pending.peek().getStartDate())) {
+            Coupon coupon = pending.poll();
+            active.put(coupon.getId(), coupon);
+            expiries.add(coupon);
+            version.incrementAndGet();
+        }
+        while (!expiries.isEmpty() && !now.isBefore(expiries.peek().getEndDate())) {
+            Coupon coupon = expiries.poll();
+            active.remove(coupon.getId());
+            issuedQuantities.remove(coupon.getId());
+            version.incrementAndGet();
+        }
+    }
+
+    private int issuedQuantity(Coupon coupon) {
+        AtomicInteger issued = issuedQuantities.get(coupon.getId());
+        return issued == null ? coupon.getIssuedQuantity() : issued.get();
+    }
+}
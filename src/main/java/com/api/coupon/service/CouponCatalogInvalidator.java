@@ -0,0 +1,52 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 생성이 커밋되면 발급 가능 쿠폰 카탈로그를 무효화 (다음 조회 시 재적재)
+ *
+ * 재적재 주기(coupon.catalog.refresh-interval-ms)를 기다리지 않고 새 쿠폰이 목록에 보이도록.
+ * 엔티티에 리스너를 달지 않고 Hibernate 이벤트로 등록 (도메인은 카탈로그를 모름)
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponCatalogInvalidator implements PostCommitInsertEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ActiveCouponCatalog activeCouponCatalog;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_INSERT, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Coupon) {
+            activeCouponCatalog.invalidate();
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 생성은 카탈로그에 영향 없음
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Coupon.class.equals(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,341 @@
+package com.api.coupon.service;
+
+import com.api.coupon.audit.AuditLogWriter;
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponDistributionJob;
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.domain.DistributionStatus;
+import com.api.coupon.dto.DistributionJobResponse;
+import com.api.coupon.repository.CouponDistributionJobRepository;
+import com.api.coupon.repository.CouponRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 쿠폰 일괄 지급 (세그먼트 전체에 1매씩)
+ *
+ * 1. 대상 사용자 ID를 파일로 저장 (목록 요청 / 업로드 파일 모두 스트리밍으로 기록)
+ * 2. 전용 스레드에서 chunkSize 줄씩 읽어 청크마다 한 트랜잭션으로 처리
+ *    - 이미 보유한 사용자는 IN 조회 1회로 걸러냄 (청크 내 중복 포함)
+ *    - user_coupon INSERT는 JDBC batch 1회
+ *    - issued_quantity는 청크당 조건부 UPDATE 1회 (총 수량 초과 시 작업 실패)
+ *    - 작업 cursor 갱신도 같은 트랜잭션 → 재시작 시 마지막 커밋 지점부터 이어서 처리
+ *    - 조회 이후 온라인으로 먼저 발급된 사용자가 있으면 (유니크 제약 위반) 청크를 다시 처리
+ * 3. 기동 시 RUNNING 상태 작업을 다시 실행
+ * 4. 완료/실패한 작업의 대상 파일은 삭제
+ *
+ * 작업은 한 번에 하나씩 순서대로 처리 (온라인 발급 트래픽 보호)
+ */
+@Slf4j
+@Service
+public class CouponDistributionService {
+
+    private static final String INSERT_USER_COUPON =
+            "insert into user_coupon (user_id, coupon_id, issued_at, used) values (?, ?, ?, false)";
+    private static final String SELECT_ISSUED_USERS =
+            "select user_id from user_coupon where coupon_id = :couponId and user_id in (:userIds)";
+    private static final String INCREASE_ISSUED_QUANTITY =
+            "update coupon set issued_quantity = issued_quantity + ? " +
+            "where id = ? and issued_quantity + ? <= total_quantity";
+    private static final int CHUNK_ATTEMPTS = 3;
+
+    private final CouponRepository couponRepository;
+    private final CouponDistributionJobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogWriter auditLogWriter;
+    private final Path storageDir;
+    private final int defaultChunkSize;
+    private final int maxChunkSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coupon-distribution");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CouponDistributionService(CouponRepository couponRepository,
+                                     CouponDistributionJobRepository jobRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     AuditLogWriter auditLogWriter,
+                                     @Value("${coupon.distribution.storage-dir}") String storageDir,
+                                     @Value("${coupon.distribution.chunk-size:1000}") int defaultChunkSize,
+                                     @Value("${coupon.distribution.max-chunk-size:10000}") int maxChunkSize) {
+        this.couponRepository = couponRepository;
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.auditLogWriter = auditLogWriter;
+        this.storageDir = Paths.get(storageDir);
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    /**
+     * 사용자 ID 목록으로 작업 생성
+     */
+    public DistributionJobResponse create(Long couponId, List<Long> userIds, Integer chunkSize) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("지급 대상 사용자가 없습니다");
+        }
+        validateCoupon(couponId);
+        Path source = newSourceFile();
+        long totalCount = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(source, StandardCharsets.UTF_8)) {
+            for (Long userId : userIds) {
+                if (userId == null) {
+                    throw new IllegalArgumentException("사용자 ID가 올바르지 않습니다");
+                }
+                writer.write(Long.toString(userId));
+                writer.newLine();
+                totalCount++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("지급 대상 파일 저장에 실패했습니다", e);
+        }
+        return start(couponId, source, totalCount, chunkSize);
+    }
+
+    /**
+     * 업로드 파일(한 줄에 사용자 ID 하나)로 작업 생성 - 메모리에 전체를 올리지 않음
+     */
+    public DistributionJobResponse create(Long couponId, InputStream userIdStream, Integer chunkSize) {
+        validateCoupon(couponId);
+        Path source = newSourceFile();
+        long totalCount = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(userIdStream, StandardCharsets.UTF_8));
+             BufferedWriter writer = Files.newBufferedWriter(source, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                writer.write(Long.toString(parseUserId(line, lineNumber)));
+                writer.newLine();
+                totalCount++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("지급 대상 파일 저장에 실패했습니다", e);
+        }
+        if (totalCount == 0) {
+            throw new IllegalArgumentException("지급 대상 사용자가 없습니다");
+        }
+        return start(couponId, source, totalCount, chunkSize);
+    }
+
+    /**
+     * 진행 상황 조회
+     */
+    public DistributionJobResponse getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(DistributionJobResponse::from)
+                .orElseThrow(() -> new IllegalArgumentException("지급 작업이 존재하지 않습니다: " + jobId));
+    }
+
+    /**
+     * 기동 시 중단된 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeRunningJobs() {
+        for (CouponDistributionJob job : jobRepository.findByStatus(DistributionStatus.RUNNING)) {
+            log.info("쿠폰 지급 작업 재개. jobId={}, cursor={}/{}", job.getId(), job.getCursor(), job.getTotalCount());
+            executor.submit(() -> run(job.getId()));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 진행 중인 청크는 커밋/롤백 후 종료, 남은 작업은 다음 기동 시 재개
+        executor.shutdownNow();
+    }
+
+    private DistributionJobResponse start(Long couponId, Path source, long totalCount, Integer chunkSize) {
+        int size = chunkSize == null ? defaultChunkSize : chunkSize;
+        if (size <= 0 || size > maxChunkSize) {
+            throw new IllegalArgumentException("청크 크기는 1 ~ " + maxChunkSize + " 사이여야 합니다");
+        }
+        CouponDistributionJob job = jobRepository.save(CouponDistributionJob.builder()
+                .couponId(couponId)
+                .sourcePath(source.toString())
+                .chunkSize(size)
+                .totalCount(totalCount)
+                .build());
+        executor.submit(() -> run(job.getId()));
+        return DistributionJobResponse.from(job);
+    }
+
+    private void run(Long jobId) {
+        CouponDistributionJob job = jobRepository.findById(jobId).orElseThrow();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(job.getSourcePath()), StandardCharsets.UTF_8)) {
+            // 이미 커밋된 줄은 건너뜀
+            for (long skipped = 0; skipped < job.getCursor(); skipped++) {
+                reader.readLine();
+            }
+
+            List<Long> chunk = new ArrayList<>(job.getChunkSize());
+            String line;
+            while (!Thread.currentThread().isInterrupted()) {
+                chunk.clear();
+                while (chunk.size() < job.getChunkSize() && (line = reader.readLine()) != null) {
+                    chunk.add(Long.parseLong(line));
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                // 발급 이벤트는 청크 커밋 이후 발행되므로 감사 로그 기록 가능 여부는 커밋 전에 확인 (중단 시 작업 실패)
+                auditLogWriter.checkWritable();
+                List<Long> issuedUserIds = processChunkWithRetry(jobId, job.getCouponId(), chunk);
+                for (Long userId : issuedUserIds) {
+                    eventPublisher.publishEvent(new CouponIssuedEvent(job.getCouponId(), userId));
+                }
+            }
+
+            if (!Thread.currentThread().isInterrupted()) {
+                updateJob(jobId, CouponDistributionJob::complete);
+                deleteSource(job);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 종료 중 - RUNNING 상태 유지, 다음 기동 시 재개
+                return;
+            }
+            log.error("쿠폰 지급 작업 실패. jobId={}", jobId, e);
+            updateJob(jobId, j -> j.fail(e.getMessage()));
+            deleteSource(job);
+        }
+    }
+
+    /**
+     * 청크 처리 (트랜잭션 1회)
+     * 이미 보유한 사용자 조회와 INSERT 사이에 온라인 발급이 끼어들면 유니크 제약 위반으로 청크가 롤백된다.
+     * 다시 조회하면 그 사용자는 제외되므로 몇 번 재시도한다.
+     */
+    private List<Long> processChunkWithRetry(Long jobId, Long couponId, List<Long> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> processChunk(jobId, couponId, chunk));
+            } catch (DuplicateKeyException e) {
+                if (attempt >= CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("지급 청크 중복 발급 충돌, 재시도. jobId={}, attempt={}", jobId, attempt);
+            }
+        }
+    }
+
+    /**
+     * 청크 1개 처리 (트랜잭션 내부)
+     *
+     * @return 새로 지급된 사용자 ID
+     */
+    private List<Long> processChunk(Long jobId, Long couponId, List<Long> chunk) {
+        // 1. 청크 내 중복 제거 + 이미 보유한 사용자 제외 (IN 조회 1회)
+        Set<Long> candidates = new LinkedHashSet<>(chunk);
+        Set<Long> alreadyIssued = new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_ISSUED_USERS,
+                new MapSqlParameterSource()
+                        .addValue("couponId", couponId)
+                        .addValue("userIds", candidates),
+                Long.class));
+        candidates.removeAll(alreadyIssued);
+        List<Long> targets = new ArrayList<>(candidates);
+
+        if (!targets.isEmpty()) {
+            // 2. 발급 수량 반영 (청크당 1회, 총 수량 초과 시 청크 전체 롤백)
+            if (jdbcTemplate.update(INCREASE_ISSUED_QUANTITY, targets.size(), couponId, targets.size()) == 0) {
+                throw new IllegalStateException("쿠폰 발급 가능 수량이 부족합니다");
+            }
+
+            // 3. UserCoupon 일괄 INSERT
+            Timestamp issuedAt = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_USER_COUPON, targets, targets.size(), (ps, userId) -> {
+                ps.setLong(1, userId);
+                ps.setLong(2, couponId);
+                ps.setTimestamp(3, issuedAt);
+            });
+        }
+
+        // 4. 진행 상황(cursor) 갱신 - 같은 트랜잭션
+        CouponDistributionJob job = jobRepository.findById(jobId).orElseThrow();
+        job.advance(chunk.size(), targets.size(), chunk.size() - targets.size());
+        return targets;
+    }
+
+    private void updateJob(Long jobId, Consumer<CouponDistributionJob> update) {
+        transactionTemplate.executeWithoutResult(status ->
+                jobRepository.findById(jobId).ifPresent(update));
+    }
+
+    private void validateCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
+        if (!coupon.getEndDate().isAfter(LocalDateTime.now())) {
+            throw new IllegalStateException("만료된 쿠폰입니다");
+        }
+    }
+
+    private void deleteSource(CouponDistributionJob job) {
+        try {
+            Files.deleteIfExists(Paths.get(job.getSourcePath()));
+        } catch (IOException e) {
+            log.warn("지급 대상 파일 삭제 실패. jobId={}, path={}", job.getId(), job.getSourcePath(), e);
+        }
+    }
+
+    private Path newSourceFile() {
+        try {
+            Files.createDirectories(storageDir);
+            return storageDir.resolve(UUID.randomUUID() + ".txt");
+        } catch (IOException e) {
+            throw new UncheckedIOException("지급 대상 파일 저장에 실패했습니다", e);
+        }
+    }
+
+    private long parseUserId(String line, long lineNumber) {
+        try {
+            return Long.parseLong(line);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("사용자 ID가 올바르지 않습니다 (" + lineNumber + "번째 줄): " + line);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선착순 쿠폰 발급 게이트 (Lock-free)
+ *
+ * 쿠폰별 남은 수량을 메모리의 AtomicInteger로 관리하고
+ * CAS로 당첨 여부를 먼저 결정한다.
+ * - 당첨자만 DB 트랜잭션에 진입
+ * - 탈락자는 트랜잭션 없이 즉시 거절
+ *
+ * 주의:
+ * - 남은 수량은 최초 요청 시 (totalQuantity - issuedQuantity)로 한 번만 채워진다
+ *   (동시에 들어온 첫 요청들은 한 스레드의 조회 결과를 기다림 → 오픈 시점에 DB 조회 1회)
+ * - 게이트 모드로 발급하는 쿠폰은 다른 발급 경로와 섞어 쓰지 않는다
+ * - 단일 인스턴스 기준 (멀티 인스턴스는 Redis 등 공용 카운터 필요)
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueGate {
+
+    private final CouponRepository couponRepository;
+
+    private final Map<Long, CompletableFuture<Slot>> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 발급 슬롯 선점 시도
+     *
+     * @return 당첨 여부 (기간이 아니거나 소진되면 false)
+     */
+    public boolean tryAcquire(Long couponId, LocalDateTime now) {
+        return slot(couponId).tryAcquire(now);
+    }
+
+    /**
+     * 선점한 슬롯 반납 (DB 반영 실패 시)
+     */
+    public void release(Long couponId) {
+        Slot slot = seeded(couponId);
+        if (slot != null) {
+            slot.remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * 남은 수량 조회 (아직 채워지지 않았으면 null)
+     */
+    public Integer remaining(Long couponId) {
+        Slot slot = seeded(couponId);
+        return slot == null ? null : slot.remaining.get();
+    }
+
+    /**
+     * 쿠폰당 한 번만 조회
+     * 자리(future)를 먼저 선점한 스레드만 DB 를 읽고, 나머지는 그 결과를 기다린다.
+     * DB 조회는 ConcurrentHashMap 매핑 함수 밖에서 (같은 bin 의 다른 쿠폰까지 막지 않도록)
+     * 조회 실패 시 자리를 비워 다음 요청이 다시 조회 (없는 쿠폰은 매번 IllegalArgumentException)
+     */
+    private Slot slot(Long couponId) {
+        CompletableFuture<Slot> future = slots.get(couponId);
+        if (future == null) {
+            CompletableFuture<Slot> created = new CompletableFuture<>();
+            future = slots.putIfAbsent(couponId, created);
+            if (future == null) {
+                future = created;
+                try {
+                    created.complete(seed(couponId));
+                } catch (RuntimeException e) {
+                    slots.remove(couponId, created);
+                    created.completeExceptionally(e);
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 조회가 끝난 슬롯 (아직 채우는 중이거나 실패했으면 null)
+     */
+    private Slot seeded(Long couponId) {
+        CompletableFuture<Slot> future = slots.get(couponId);
+        return future == null || !future.isDone() || future.isCompletedExceptionally() ? null : future.join();
+    }
+
+    private Slot seed(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
+        return new Slot(coupon.getStartDate(), coupon.getEndDate(),
+                coupon.getTotalQuantity() - coupon.getIssuedQuantity());
+    }
+
+    private static class Slot {
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final AtomicInteger remaining;
+
+        private Slot(LocalDateTime startDate, LocalDateTime endDate, int remaining) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.remaining = new AtomicInteger(Math.max(remaining, 0));
+        }
+
+        private boolean tryAcquire(LocalDateTime now) {
+            if (!now.isAfter(startDate) || !now.isBefore(endDate)) {
+                return false;
+            }
+            // 0 아래로 내려가지 않도록 CAS 루프
+            int current;
+            while ((current = remaining.get()) > 0) {
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
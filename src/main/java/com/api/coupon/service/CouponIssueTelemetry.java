@@ -0,0 +1,163 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.dto.CouponStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 쿠폰 발급 실시간 지표 (메모리)
+ *
+ * - 쿠폰별 LongAdder 카운터 (스레드별 셀에 누적 → 발급 경로에서 경합 없음)
+ * - 초 단위 버킷 ring 으로 최근 windowSeconds 초 동안의 초당 시도/발급 수 계산
+ * - 발급 수는 커밋된 발급 이벤트 기준 (롤백된 발급 제외, 모든 발급 전략 포함)
+ * - 남은 수량은 ActiveCouponCatalog 의 값을 그대로 사용
+ *
+ * 존재하는 쿠폰에 대해서만 항목을 만들어 메모리는 쿠폰 수에 비례.
+ * 조회 시 DB 접근 없음 (서버 재시작 시 초기화)
+ */
+@Component
+public class CouponIssueTelemetry {
+
+    private static final int BUCKETS = 64;   // 최대 window 크기 (초)
+
+    private final Map<Long, CouponStats> stats = new ConcurrentHashMap<>();
+    private final ActiveCouponCatalog activeCouponCatalog;
+    private final int windowSeconds;
+    private final LongSupplier epochSecondClock;
+
+    public CouponIssueTelemetry(ActiveCouponCatalog activeCouponCatalog,
+                                @Value("${coupon.telemetry.window-seconds:10}") int windowSeconds) {
+        this(activeCouponCatalog, windowSeconds, () -> TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+    }
+
+    CouponIssueTelemetry(ActiveCouponCatalog activeCouponCatalog, int windowSeconds, LongSupplier epochSecondClock) {
+        if (windowSeconds <= 0 || windowSeconds >= BUCKETS) {
+            throw new IllegalArgumentException("coupon.telemetry.window-seconds 는 1 ~ " + (BUCKETS - 1) + " 사이여야 합니다");
+        }
+        this.activeCouponCatalog = activeCouponCatalog;
+        this.windowSeconds = windowSeconds;
+        this.epochSecondClock = epochSecondClock;
+    }
+
+    /**
+     * 락 획득까지 걸린 시간 기록 (발급 시도 1건)
+     */
+    public void recordLockAcquired(Long couponId, long lockWaitNanos) {
+        CouponStats couponStats = stats(couponId);
+        couponStats.attempts.increment();
+        couponStats.attemptWindow.increment(epochSecondClock.getAsLong());
+        couponStats.lockWaitCount.increment();
+        couponStats.lockWaitNanos.add(lockWaitNanos);
+        couponStats.maxLockWaitNanos.accumulate(lockWaitNanos);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssued(CouponIssuedEvent event) {
+        CouponStats couponStats = stats(event.getCouponId());
+        couponStats.issued.increment();
+        couponStats.issueWindow.increment(epochSecondClock.getAsLong());
+    }
+
+    public void recordSoldOut(Long couponId) {
+        stats(couponId).soldOut.increment();
+    }
+
+    public void recordUnavailable(Long couponId) {
+        stats(couponId).unavailable.increment();
+    }
+
+    /**
+     * 중복 발급 거절 (락 전 메모리 확인 / 유니크 제약 INSERT 단계)
+     */
+    public void recordDuplicate(Long couponId) {
+        CouponStats couponStats = stats(couponId);
+        couponStats.attempts.increment();
+        couponStats.attemptWindow.increment(epochSecondClock.getAsLong());
+        couponStats.duplicates.increment();
+    }
+
+    public CouponStatsResponse getStats(Long couponId) {
+        CouponStats couponStats = stats.get(couponId);
+        Integer catalogRemaining = activeCouponCatalog.remainingQuantity(couponId);
+        if (couponStats == null) {
+            return CouponStatsResponse.empty(couponId, windowSeconds, catalogRemaining);
+        }
+
+        long now = epochSecondClock.getAsLong();
+        long lockWaitCount = couponStats.lockWaitCount.sum();
+        return CouponStatsResponse.builder()
+                .couponId(couponId)
+                .attempts(couponStats.attempts.sum())
+                .issued(couponStats.issued.sum())
+                .soldOut(couponStats.soldOut.sum())
+                .duplicates(couponStats.duplicates.sum())
+                .unavailable(couponStats.unavailable.sum())
+                .lockWaitCount(lockWaitCount)
+                .avgLockWaitMillis(lockWaitCount == 0 ? 0 : couponStats.lockWaitNanos.sum() / 1e6 / lockWaitCount)
+                .maxLockWaitMillis(couponStats.maxLockWaitNanos.get() / 1e6)
+                .attemptsPerSecond(couponStats.attemptWindow.rate(now, windowSeconds))
+                .issuedPerSecond(couponStats.issueWindow.rate(now, windowSeconds))
+                .windowSeconds(windowSeconds)
+                .remainingQuantity(catalogRemaining == null ? null : catalogRemaining.longValue())
+                .build();
+    }
+
+    private CouponStats stats(Long couponId) {
+        return stats.computeIfAbsent(couponId, id -> new CouponStats());
+    }
+
+    private static class CouponStats {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder issued = new LongAdder();
+        private final LongAdder soldOut = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder unavailable = new LongAdder();
+        private final LongAdder lockWaitCount = new LongAdder();
+        private final LongAdder lockWaitNanos = new LongAdder();
+        private final LongAccumulator maxLockWaitNanos = new LongAccumulator(Math::max, 0);
+        private final SlidingWindow attemptWindow = new SlidingWindow();
+        private final SlidingWindow issueWindow = new SlidingWindow();
+    }
+
+    /**
+     * 초 단위 버킷 ring - 버킷마다 (해당 초, 건수)
+     * 새 초에 처음 들어온 요청이 버킷을 초기화 (경계에서 몇 건 오차 허용)
+     */
+    private static class SlidingWindow {
+        private final AtomicLongArray seconds = new AtomicLongArray(BUCKETS);
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        private void increment(long second) {
+            int index = (int) (second & (BUCKETS - 1));
+            long bucketSecond = seconds.get(index);
+            if (bucketSecond != second && seconds.compareAndSet(index, bucketSecond, second)) {
+                counts.set(index, 0);
+            }
+            counts.incrementAndGet(index);
+        }
+
+        /**
+         * 직전 windowSeconds 초 (진행 중인 현재 초 제외) 평균 초당 건수
+         */
+        private double rate(long now, int windowSeconds) {
+            long total = 0;
+            for (long second = now - windowSeconds; second < now; second++) {
+                int index = (int) (second & (BUCKETS - 1));
+                if (seconds.get(index) == second) {
+                    total += counts.get(index);
+                }
+            }
+            return (double) total / windowSeconds;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupons;
+import com.api.coupon.domain.DiscountResult;
+import com.api.coupon.dto.CalculateDiscountResponse;
+import com.api.coupon.dto.OptimizeCouponRequest;
+import com.api.coupon.repository.CouponRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보유 쿠폰 중 최대 할인 조합 추천
+ */
+@Service
+public class CouponOptimizeService {
+
+    private final CouponRepository couponRepository;
+    private final int maxStackCount;
+
+    public CouponOptimizeService(CouponRepository couponRepository,
+                                 @Value("${coupon.optimize.max-stack-count:3}") int maxStackCount) {
+        this.couponRepository = couponRepository;
+        this.maxStackCount = maxStackCount;
+    }
+
+    /**
+     * 최대 할인 조합 계산
+     * - 보유(미사용) 쿠폰 조인 조회 1회
+     * - 기간 / 최소 주문 금액 / 최대 할인 금액 / 중복 적용 수 제한 반영
+     */
+    @Transactional(readOnly = true)
+    public CalculateDiscountResponse optimize(OptimizeCouponRequest request) {
+        if (request.getOrderAmount() == null || request.getOrderAmount() <= 0) {
+            throw new IllegalArgumentException("주문 금액은 0원보다 커야 합니다");
+        }
+
+        Coupons owned = new Coupons(couponRepository.findUnusedByUserId(request.getUserId()));
+        Coupons best = owned.selectBestCombination(request.getOrderAmount(), maxStackCount);
+
+        DiscountResult discountResult = best.calculateDiscount(request.getOrderAmount());
+        return CalculateDiscountResponse.of(request.getOrderAmount(), discountResult);
+    }
+}
@@ -1,17 +1,22 @@
 package com.api.coupon.service;
 
 import com.api.coupon.domain.Coupon;
-import com.api.coupon.domain.Coupons;
-import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.domain.UserOwnedCoupons;
 import com.api.coupon.repository.CouponRepository;
 import com.api.coupon.repository.UserCouponRepository;
+import com.platform.common.sql.SqlBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 쿠폰 조회 전용 서비스
@@ -26,21 +31,33 @@ public class CouponQueryService {
     private final UserCouponRepository userCouponRepository;
 
 
+    @SqlBudget(maxStatements = 2)
     public List<Coupon> getUserOwnedCoupons(Long userId, List<Long> couponIds) {
-        //사용자 보유 쿠폰 여부
-        List<Coupon> coupons = new ArrayList<>();
-        for (long couponId : couponIds) {
-            userCouponRepository.findByUserIdAndCouponIdAndUsed(userId, couponId, false).
-                    orElseThrow(() -> new IllegalArgumentException("보유하지 않은 쿠폰입니다"));
+        //사용자 보유 쿠폰 여부 + 쿠폰 정보 (쿠폰 수와 무관하게 쿼리 2회)
+        return loadUserOwnedCoupons(userId, couponIds).resolve(couponIds);
+    }
 
-            //쿠폰 정보 조회
-            Coupon coupon = couponRepository.findById(couponId)
-                    .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
+    /**
+     * 요청한 쿠폰 중 사용자가 보유한(미사용) 쿠폰과 쿠폰 정보를 일괄 조회
+     * - 보유 여부: user_coupon IN 쿼리 1회
+     * - 쿠폰 정보: coupon IN 쿼리 1회
+     */
+    public UserOwnedCoupons loadUserOwnedCoupons(Long userId, Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return new UserOwnedCoupons(Set.of(), Map.of());
+        }
 
-            coupons.add(coupon);
+        Set<Long> ownedCouponIds = userCouponRepository
+                .findByUserIdAndCouponIdInAndUsed(userId, Set.copyOf(couponIds), false).stream()
+                .map(UserCoupon::getCouponId)
+                .collect(Collectors.toSet());
+        if (ownedCouponIds.isEmpty()) {
+            return new UserOwnedCoupons(ownedCouponIds, Map.of());
         }
 
-        return coupons;
+        Map<Long, Coupon> coupons = couponRepository.findAllById(ownedCouponIds).stream()
+                .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+        return new UserOwnedCoupons(ownedCouponIds, coupons);
     }
 
 }
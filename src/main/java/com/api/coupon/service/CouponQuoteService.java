@@ -0,0 +1,109 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.Coupons;
+import com.api.coupon.domain.DiscountResult;
+import com.api.coupon.domain.UserOwnedCoupons;
+import com.api.coupon.dto.BatchCalculateDiscountRequest;
+import com.api.coupon.dto.BatchCalculateDiscountResponse;
+import com.api.coupon.dto.BatchCalculateDiscountResponse.QuoteResult;
+import com.api.coupon.dto.CalculateDiscountResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 여러 장바구니 할인 견적 일괄 계산
+ *
+ * 1. 모든 견적에 등장하는 쿠폰을 한 번에 조회 (보유 여부 + 쿠폰 정보, 쿼리 2회)
+ * 2. 견적별 계산은 전용 ForkJoinPool 에서 병렬 처리 (DB 접근 없음)
+ * 3. 견적별로 성공/실패를 따로 담아 요청 순서대로 반환
+ *    (견적 하나의 예상치 못한 오류도 그 견적의 실패로만 처리 - 배치 전체를 실패시키지 않음)
+ */
+@Slf4j
+@Service
+public class CouponQuoteService {
+
+    private final CouponQueryService couponQueryService;
+    private final ForkJoinPool quotePool;
+    private final int maxQuotes;
+
+    public CouponQuoteService(CouponQueryService couponQueryService,
+                              @Value("${coupon.quote.parallelism:4}") int parallelism,
+                              @Value("${coupon.quote.max-quotes:100}") int maxQuotes) {
+        this.couponQueryService = couponQueryService;
+        this.quotePool = new ForkJoinPool(parallelism);
+        this.maxQuotes = maxQuotes;
+    }
+
+    public BatchCalculateDiscountResponse calculateBatch(BatchCalculateDiscountRequest request) {
+        List<BatchCalculateDiscountRequest.Quote> quotes = request.getQuotes();
+        if (quotes == null || quotes.isEmpty()) {
+            throw new IllegalArgumentException("견적은 1개 이상이어야 합니다");
+        }
+        if (quotes.size() > maxQuotes) {
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 견적은 최대 " + maxQuotes + "개입니다");
+        }
+
+        // 1. 참조된 쿠폰 일괄 조회 (null ID 가 있는 견적은 계산 단계에서 실패 처리)
+        Set<Long> couponIds = new LinkedHashSet<>();
+        for (BatchCalculateDiscountRequest.Quote quote : quotes) {
+            if (quote != null && quote.getCouponIds() != null) {
+                quote.getCouponIds().stream().filter(Objects::nonNull).forEach(couponIds::add);
+            }
+        }
+        UserOwnedCoupons ownedCoupons = couponQueryService.loadUserOwnedCoupons(request.getUserId(), couponIds);
+
+        // 2. 견적별 병렬 계산
+        List<ForkJoinTask<QuoteResult>> tasks = new ArrayList<>(quotes.size());
+        for (int i = 0; i < quotes.size(); i++) {
+            int index = i;
+            BatchCalculateDiscountRequest.Quote quote = quotes.get(i);
+            tasks.add(quotePool.submit(() -> quote(index, quote, ownedCoupons)));
+        }
+
+        // 3. 요청 순서대로 수집
+        List<QuoteResult> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<QuoteResult> task : tasks) {
+            results.add(task.join());
+        }
+        return new BatchCalculateDiscountResponse(results);
+    }
+
+    private QuoteResult quote(int index, BatchCalculateDiscountRequest.Quote quote, UserOwnedCoupons ownedCoupons) {
+        if (quote == null) {
+            return QuoteResult.failure(index, "견적 정보는 필수입니다");
+        }
+        if (quote.getOrderAmount() == null) {
+            return QuoteResult.failure(index, "주문 금액은 필수입니다");
+        }
+        List<Long> couponIds = quote.getCouponIds() == null ? List.of() : quote.getCouponIds();
+        if (couponIds.stream().anyMatch(Objects::isNull)) {
+            return QuoteResult.failure(index, "쿠폰 ID는 필수입니다");
+        }
+        try {
+            List<Coupon> coupons = ownedCoupons.resolve(couponIds);
+            DiscountResult discountResult = new Coupons(coupons).calculateDiscount(quote.getOrderAmount());
+            return QuoteResult.success(index, CalculateDiscountResponse.of(quote.getOrderAmount(), discountResult));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return QuoteResult.failure(index, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("견적 계산 실패 (index={})", index, e);
+            return QuoteResult.failure(index, "할인 금액을 계산할 수 없습니다");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        quotePool.shutdown();
+    }
+}
@@ -1,6 +1,8 @@
 package com.api.coupon.service;
 
 import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponIssueRejectedEvent;
+import com.api.coupon.domain.CouponIssuedEvent;
 import com.api.coupon.domain.Coupons;
 import com.api.coupon.domain.DiscountResult;
 import com.api.coupon.domain.UserCoupon;
@@ -10,13 +12,20 @@ import com.api.coupon.dto.CouponResponse;
 import com.api.coupon.dto.IssueCouponRequest;
 import com.api.coupon.repository.CouponRepository;
 import com.api.coupon.repository.UserCouponRepository;
+import com.platform.common.datasource.ReadOnlyTransaction;
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.jfr.LockAcquireEvent;
+import com.platform.common.metrics.ContentionMetrics;
+import com.platform.common.metrics.OutcomeTimed;
+import com.platform.common.sql.SqlBudget;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 쿠폰 서비스
@@ -36,6 +45,13 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponQueryService couponQueryService;
+    private final IssuedCouponRegistry issuedCouponRegistry;
+    private final UserCouponWalletCache userCouponWalletCache;
+    private final ActiveCouponCatalog activeCouponCatalog;
+    private final CouponIssueTelemetry couponIssueTelemetry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentionMetrics contentionMetrics;
+    private final ReadOnlyTransaction readOnlyTransaction;
 
     /**
      * TODO 1: 쿠폰 발급 API 구현
@@ -43,7 +59,7 @@ public class CouponService {
      * 요구사항:
      * - 선착순 쿠폰이므로 동시성 처리 필요 (Pessimistic Lock 사용)
      * - 발급 가능 여부 검증 (기간, 수량)
-     * - 사용자당 동일 쿠폰 중복 발급 방지
+     * - 사용자당 동일 쿠폰 중복 발급 방지 (사용 여부와 무관, 유니크 제약으로 보장)
      * - 발급 후 issuedQuantity 증가
      * <p>
      * 예외 처리:
@@ -51,38 +67,64 @@ public class CouponService {
      * - 발급 불가능하면 IllegalStateException
      * - 이미 발급받은 쿠폰이면 IllegalStateException
      */
+    @OutcomeTimed(value = "coupons.issue", strategy = "pessimistic")
     @Transactional
     public CouponResponse issueCoupon(IssueCouponRequest request) {
 
-        //쿠폰 조회
-        Coupon coupon = couponRepository.findByIdWithPessmisticLock(request.getCouponId()).orElseThrow(
-                () -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
+        //중복 발급 여부 (이미 확인된 발급자는 쿼리/락 없이 거절)
+        if (issuedCouponRegistry.isIssued(request.getCouponId(), request.getUserId())) {
+            couponIssueTelemetry.recordDuplicate(request.getCouponId());
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        }
 
-        //쿠폰 발급 여부
-        if (!coupon.canIssue()) {
-            throw new IllegalStateException("쿠폰 발급이 불가합니다");
+        //쿠폰 발급 - (user_id, coupon_id) 유니크 제약으로 중복 발급 차단
+        //  쿠폰 row 락 전에 INSERT → 중복 요청은 락/수량 변경 없이 거절 (발급 불가면 함께 롤백)
+        try {
+            userCouponRepository.saveIssuedCoupon(UserCoupon.builder()
+                    .couponId(request.getCouponId())
+                    .userId(request.getUserId())
+                    .issuedAt(LocalDateTime.now())
+                    .used(false)
+                    .build());
+        } catch (IllegalStateException e) {
+            couponIssueTelemetry.recordDuplicate(request.getCouponId());
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw e;
         }
 
-        //중복 발급 여부
-        boolean isAlreadyIssued =
-                userCouponRepository.findByUserIdAndCouponIdAndUsed(request.getUserId(), coupon.getId(), false).isPresent();
+        //쿠폰 조회 (락 대기 시간 측정)
+        LockAcquireEvent lockEvent = ContentionEvents.beginLockAcquire("coupon", request.getCouponId(), ContentionEvents.PESSIMISTIC);
+        long lockStartNanos = System.nanoTime();
+        Optional<Coupon> locked;
+        boolean acquired = false;
+        try {
+            locked = couponRepository.findByIdWithPessmisticLock(request.getCouponId());
+            acquired = true;
+        } finally {
+            ContentionEvents.endLockAcquire(lockEvent, acquired);
+        }
+        long lockWaitNanos = System.nanoTime() - lockStartNanos;
+        Coupon coupon = locked.orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
+        contentionMetrics.recordLockWait("coupon", lockWaitNanos);
+        couponIssueTelemetry.recordLockAcquired(coupon.getId(), lockWaitNanos);
 
-        //쿠폰 발급
-        if (isAlreadyIssued) {
-            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        //쿠폰 발급 여부
+        if (!coupon.canIssue()) {
+            if (coupon.getIssuedQuantity() >= coupon.getTotalQuantity()) {
+                couponIssueTelemetry.recordSoldOut(coupon.getId());
+                ContentionEvents.outOfStock("coupon", coupon.getId(), 1, 0);
+            } else {
+                couponIssueTelemetry.recordUnavailable(coupon.getId());
+            }
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(coupon.getId(), request.getUserId()));
+            throw new IllegalStateException("쿠폰 발급이 불가합니다");
         }
 
         coupon.issue();
         //     couponRepository.save(coupon);
 
-        UserCoupon userCoupon = UserCoupon.builder()
-                .couponId(coupon.getId())
-                .userId(request.getUserId())
-                .issuedAt(LocalDateTime.now())
-                .used(false)
-                .build();
-
-        userCouponRepository.save(userCoupon);
+        eventPublisher.publishEvent(new CouponIssuedEvent(coupon.getId(), request.getUserId()));
 
         return CouponResponse.from(coupon);
     }
@@ -124,29 +166,47 @@ public class CouponService {
     /**
      * 사용 가능한 쿠폰 목록 조회
      */
-    @Transactional(readOnly = true)
     public List<CouponResponse> getAvailableCoupons() {
-        return couponRepository.findAll().stream()
-                .filter(Coupon::canIssue)
-                .map(CouponResponse::from)
-                .toList();
+        // 전체 쿠폰 스캔 대신 진행 중인 쿠폰 인덱스에서 조회
+        return activeCouponCatalog.getAvailableCoupons(LocalDateTime.now());
+    }
+
+    /**
+     * 사용 가능한 쿠폰 목록 버전 (ETag 용, 목록을 만들지 않음)
+     */
+    public String getAvailableCouponsVersion() {
+        return activeCouponCatalog.getVersion(LocalDateTime.now());
     }
 
     /**
      * 사용자가 보유한 쿠폰 목록 조회
+     * 지갑 캐시 히트 시 쿼리 없음 (커넥션도 잡지 않도록 미스일 때만 readOnly 트랜잭션으로 조회)
+     * 미스는 대개 발급/사용 직후 무효화 때문이고 적재 결과는 다음 무효화까지 남으므로 replica 가 아닌 primary 에서 읽는다
+     * 캐시된 지갑은 발급/사용 시에만 무효화되므로 발급 수량(issuedQuantity/remainingQuantity)은 조회 시점에 카탈로그 값으로 채운다
      */
-    @Transactional(readOnly = true)
+    @SqlBudget(maxStatements = 1)
     public List<CouponResponse> getUserCoupons(Long userId) {
-        List<UserCoupon> userCoupons = userCouponRepository.findByUserIdAndUsed(userId, false);
-
-        List<CouponResponse> result = new ArrayList<>();
-        for (UserCoupon userCoupon : userCoupons) {
-            Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
-                    .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
-            if (coupon.isValid()) {
-                result.add(CouponResponse.from(coupon));
-            }
+        List<CouponResponse> wallet = userCouponWalletCache.get(userId,
+                () -> readOnlyTransaction.executeOnPrimary(() -> couponRepository.findUnusedByUserId(userId).stream()
+                        .map(CouponResponse::from)
+                        .toList()));
+
+        // 유효기간은 같은 기준 시각으로 한 번에 판단
+        LocalDateTime now = LocalDateTime.now();
+        return wallet.stream()
+                .filter(coupon -> now.isAfter(coupon.getStartDate()) && now.isBefore(coupon.getEndDate()))
+                .map(this::withLiveQuantity)
+                .toList();
+    }
+
+    /**
+     * 카탈로그에 있으면 메모리 발급 수량으로, 없으면 지갑 적재 시점 값 그대로
+     */
+    private CouponResponse withLiveQuantity(CouponResponse coupon) {
+        Integer remaining = activeCouponCatalog.remainingQuantity(coupon.getId());
+        if (remaining == null) {
+            return coupon;
         }
-        return result;
+        return coupon.withIssuedQuantity(coupon.getTotalQuantity() - remaining);
     }
 }
@@ -1,14 +1,20 @@
 package com.api.coupon.service;
 
 import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponIssuedEvent;
 import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.domain.UserOwnedCoupons;
 import com.api.coupon.dto.CalculateDiscountRequest;
 import com.api.coupon.dto.CalculateDiscountResponse;
 import com.api.coupon.dto.CouponResponse;
 import com.api.coupon.dto.IssueCouponRequest;
 import com.api.coupon.repository.CouponRepository;
 import com.api.coupon.repository.UserCouponRepository;
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.metrics.ContentionMetrics;
+import com.platform.common.metrics.OutcomeTimed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,43 +31,50 @@ public class CouponServiceAnswer {
 
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final CouponQueryService couponQueryService;
+    private final IssuedCouponRegistry issuedCouponRegistry;
+    private final ActiveCouponCatalog activeCouponCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentionMetrics contentionMetrics;
 
     /**
      * 쿠폰 발급 API 구현 (정답)
      */
+    @OutcomeTimed(value = "coupons.issue", strategy = "pessimistic-answer")
     @Transactional
     public CouponResponse issueCoupon(IssueCouponRequest request) {
+        // 0. 중복 발급 방지 - 이미 확인된 발급자는 DB 접근 없이 거절
+        if (issuedCouponRegistry.isIssued(request.getCouponId(), request.getUserId())) {
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        }
+
+        //    그 외는 (user_id, coupon_id) 유니크 제약 위반 시 "이미 발급받은 쿠폰입니다"
+        //    쿠폰 row 락 전에 INSERT 해서 중복 요청이 락을 잡거나 수량을 늘리지 않게 함 (발급 불가면 함께 롤백)
+        userCouponRepository.saveIssuedCoupon(UserCoupon.builder()
+                .userId(request.getUserId())
+                .couponId(request.getCouponId())
+                .issuedAt(LocalDateTime.now())
+                .used(false)
+                .build());
+
         // 1. Pessimistic Lock으로 쿠폰 조회 (동시성 제어)
-        Coupon coupon = couponRepository.findByIdWithPessmisticLock(request.getCouponId())
+        Coupon coupon = contentionMetrics.timeLockAcquire("coupon", request.getCouponId(),
+                        () -> couponRepository.findByIdWithPessmisticLock(request.getCouponId()))
                 .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다"));
 
         // 2. 발급 가능 여부 확인 (기간, 수량)
         if (!coupon.canIssue()) {
+            if (coupon.getIssuedQuantity() >= coupon.getTotalQuantity()) {
+                ContentionEvents.outOfStock("coupon", coupon.getId(), 1, 0);
+            }
             throw new IllegalStateException("쿠폰 발급이 불가능합니다");
         }
 
-        // 3. 중복 발급 방지 - 이미 발급받은 쿠폰인지 확인
-        boolean alreadyIssued = userCouponRepository
-                .findByUserIdAndCouponIdAndUsed(request.getUserId(), request.getCouponId(), false)
-                .isPresent();
-
-        if (alreadyIssued) {
-            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
-        }
-
-        // 4. 쿠폰 발급 - issuedQuantity 증가
+        // 3. 쿠폰 발급 - issuedQuantity 증가
         coupon.issue();
         couponRepository.save(coupon);
 
-        // 5. UserCoupon 생성 및 저장
-        UserCoupon userCoupon = UserCoupon.builder()
-                .userId(request.getUserId())
-                .couponId(request.getCouponId())
-                .issuedAt(LocalDateTime.now())
-                .used(false)
-                .build();
-
-        userCouponRepository.save(userCoupon);
+        eventPublisher.publishEvent(new CouponIssuedEvent(request.getCouponId(), request.getUserId()));
 
         return CouponResponse.from(coupon);
     }
@@ -74,21 +87,22 @@ public class CouponServiceAnswer {
         List<CalculateDiscountResponse.AppliedCoupon> appliedCoupons = new ArrayList<>();
         int totalDiscount = 0;
 
+        // 보유 여부 + 쿠폰 정보를 쿠폰 수와 무관하게 쿼리 2회로 일괄 조회
+        UserOwnedCoupons ownedCoupons = couponQueryService
+                .loadUserOwnedCoupons(request.getUserId(), request.getCouponIds());
+
         // 각 쿠폰에 대해 할인 금액 계산
         for (Long couponId : request.getCouponIds()) {
-            // 1. 사용자가 보유한 쿠폰인지 확인
-            UserCoupon userCoupon = userCouponRepository
-                    .findByUserIdAndCouponIdAndUsed(request.getUserId(), couponId, false)
-                    .orElseThrow(() -> new IllegalArgumentException("보유하지 않은 쿠폰입니다: " + couponId));
-
-            // 2. 이미 사용한 쿠폰인지 확인
-            if (userCoupon.getUsed()) {
-                throw new IllegalStateException("이미 사용한 쿠폰입니다: " + couponId);
+            // 1. 사용자가 보유한 쿠폰인지 확인 (미사용 쿠폰만 조회되므로 2. 사용 여부 확인 포함)
+            if (!ownedCoupons.isOwned(couponId)) {
+                throw new IllegalArgumentException("보유하지 않은 쿠폰입니다: " + couponId);
             }
 
             // 3. 쿠폰 정보 조회
-            Coupon coupon = couponRepository.findById(couponId)
-                    .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다: " + couponId));
+            Coupon coupon = ownedCoupons.get(couponId);
+            if (coupon == null) {
+                throw new IllegalArgumentException("쿠폰이 존재하지 않습니다: " + couponId);
+            }
 
             // 4. 쿠폰 유효기간 확인
             if (!coupon.isValid()) {
@@ -132,12 +146,9 @@ public class CouponServiceAnswer {
     /**
      * 사용 가능한 쿠폰 목록 조회
      */
-    @Transactional(readOnly = true)
     public List<CouponResponse> getAvailableCoupons() {
-        return couponRepository.findAll().stream()
-                .filter(Coupon::canIssue)
-                .map(CouponResponse::from)
-                .toList();
+        // 전체 쿠폰 스캔 대신 진행 중인 쿠폰 인덱스에서 조회
+        return activeCouponCatalog.getAvailableCoupons(LocalDateTime.now());
     }
 
     /**
@@ -0,0 +1,103 @@
+package com.api.coupon.service;
+
+import com.api.coupon.audit.AuditLogWriter;
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponIssueRejectedEvent;
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.repository.CouponRepository;
+import com.platform.common.metrics.OutcomeTimed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 메모리 카운터(CAS) 기반 선착순 쿠폰 발급
+ *
+ * 장점:
+ * - 쿠폰 row에 대한 Pessimistic Lock 대기 없음
+ * - 탈락자는 DB 트랜잭션 없이 즉시 거절
+ *
+ * 단점:
+ * - 카운터가 메모리에 있으므로 단일 인스턴스 기준
+ * - 당첨 후 DB 반영이 실패하면 슬롯을 반납하므로 잠깐 동안 실제보다 적게 보일 수 있음
+ * - DB 반영은 UserCouponBatchWriter가 모아서 커밋하므로 응답 지연이 수 ms 늘어남
+ *
+ * 사용 시나리오:
+ * - "선착순 N명" 처럼 요청이 수량보다 훨씬 많은 캠페인
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponServiceWithAtomicGate {
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueGate couponIssueGate;
+    private final IssuedCouponRegistry issuedCouponRegistry;
+    private final UserCouponBatchWriter userCouponBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogWriter auditLogWriter;
+
+    @OutcomeTimed(value = "coupons.issue", strategy = "atomic-gate")
+    public CouponResponse issueCoupon(IssueCouponRequest request) {
+        // 0. 이미 확인된 발급자는 슬롯을 쓰지 않고 거절
+        if (issuedCouponRegistry.isIssued(request.getCouponId(), request.getUserId())) {
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        }
+
+        // 커밋은 batch writer 가 하므로 감사 로그 기록 가능 여부는 슬롯을 잡기 전에 확인
+        auditLogWriter.checkWritable();
+
+        // 1. 트랜잭션 밖에서 CAS로 당첨 여부 결정
+        if (!couponIssueGate.tryAcquire(request.getCouponId(), LocalDateTime.now())) {
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw new IllegalStateException("쿠폰 발급이 불가합니다");
+        }
+
+        // 2. 당첨자만 DB 반영 (Group Commit - 커밋 완료까지 대기), 실패 시 슬롯 반납
+        awaitWritten(request.getCouponId(),
+                userCouponBatchWriter.submit(request.getCouponId(), request.getUserId()));
+
+        eventPublisher.publishEvent(new CouponIssuedEvent(request.getCouponId(), request.getUserId()));
+
+        Coupon coupon = couponRepository.findById(request.getCouponId())
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다."));
+        return CouponResponse.from(coupon);
+    }
+
+    /**
+     * 커밋 완료를 최대 awaitTimeout 동안 대기
+     * - 실패 / writer 가 집어 가기 전 취소 → 저장되지 않았으므로 슬롯 반납
+     * - writer 가 처리 중인데 시간 초과 → 저장 여부를 알 수 없으므로 슬롯은 그대로 둠
+     */
+    private void awaitWritten(Long couponId, CompletableFuture<Void> written) {
+        try {
+            written.get(userCouponBatchWriter.getAwaitTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            couponIssueGate.release(couponId);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("쿠폰 발급 중 오류가 발생했습니다", e.getCause());
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (written.cancel(false)) {
+                couponIssueGate.release(couponId);
+                throw new IllegalStateException("발급 요청이 많아 처리할 수 없습니다");
+            }
+            if (written.isDone() && !written.isCompletedExceptionally()) {
+                return;   // 시간 초과 직후 커밋 완료
+            }
+            throw new IllegalStateException("발급 처리가 지연되고 있습니다. 잠시 후 보유 쿠폰을 확인해주세요");
+        }
+    }
+}
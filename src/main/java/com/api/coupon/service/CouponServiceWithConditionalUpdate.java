@@ -0,0 +1,96 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponIssueRejectedEvent;
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.repository.UserCouponRepository;
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.jfr.LockAcquireEvent;
+import com.platform.common.metrics.OutcomeTimed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 UPDATE 기반 선착순 쿠폰 발급
+ *
+ * UPDATE coupon SET issued_quantity = issued_quantity + 1
+ *  WHERE id = ? AND issued_quantity < total_quantity AND 기간 내
+ * 의 반영 건수(0 or 1)로 당첨 여부를 결정한다.
+ *
+ * 장점:
+ * - SELECT ... FOR UPDATE, 엔티티 조회, Dirty Checking flush 없음
+ * - UserCoupon INSERT를 먼저 하고 UPDATE를 마지막에 두어
+ *   쿠폰 row 락은 UPDATE부터 커밋까지만 유지
+ * - 메모리 상태가 없어 다른 발급 경로/멀티 인스턴스와 섞어 써도 정합성 유지
+ *
+ * 단점:
+ * - 탈락자도 트랜잭션 하나(INSERT 후 롤백)를 사용
+ *
+ * 사용 시나리오:
+ * - 별도 인프라 없이 DB만으로 선착순 발급을 처리할 때
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponServiceWithConditionalUpdate {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final IssuedCouponRegistry issuedCouponRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @OutcomeTimed(value = "coupons.issue", strategy = "conditional-update")
+    public CouponResponse issueCoupon(IssueCouponRequest request) {
+        // 0. 이미 확인된 발급자는 DB 접근 없이 거절
+        if (issuedCouponRegistry.isIssued(request.getCouponId(), request.getUserId())) {
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        }
+
+        transactionTemplate.executeWithoutResult(status -> issueInTransaction(request));
+
+        // 응답용 조회는 커밋 이후 (락 없음)
+        Coupon coupon = couponRepository.findById(request.getCouponId())
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰이 존재하지 않습니다"));
+        return CouponResponse.from(coupon);
+    }
+
+    private void issueInTransaction(IssueCouponRequest request) {
+        // 1. 중복 발급은 (user_id, coupon_id) 유니크 제약으로 차단 - 쿠폰 row 락 없이 먼저 처리
+        try {
+            userCouponRepository.saveIssuedCoupon(UserCoupon.builder()
+                    .couponId(request.getCouponId())
+                    .userId(request.getUserId())
+                    .issuedAt(LocalDateTime.now())
+                    .used(false)
+                    .build());
+        } catch (IllegalStateException e) {
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw e;
+        }
+
+        // 2. 슬롯 선점 - 트랜잭션의 마지막 문장
+        LockAcquireEvent lockEvent = ContentionEvents.beginLockAcquire("coupon", request.getCouponId(), ContentionEvents.CONDITIONAL_UPDATE);
+        int claimed = couponRepository.claimIssue(request.getCouponId(), LocalDateTime.now());
+        ContentionEvents.endLockAcquire(lockEvent, claimed > 0);
+        if (claimed == 0) {
+            // 실패 사유 구분은 탈락 경로에서만 (UserCoupon INSERT는 롤백)
+            if (!couponRepository.existsById(request.getCouponId())) {
+                throw new IllegalArgumentException("쿠폰이 존재하지 않습니다");
+            }
+            eventPublisher.publishEvent(new CouponIssueRejectedEvent(request.getCouponId(), request.getUserId()));
+            throw new IllegalStateException("쿠폰 발급이 불가능합니다");
+        }
+
+        // 3. 트랜잭션 안에서 발행 → 커밋 직전 감사 로그 상태 확인, 커밋 후 처리
+        eventPublisher.publishEvent(new CouponIssuedEvent(request.getCouponId(), request.getUserId()));
+    }
+}
@@ -0,0 +1,197 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.WaitingStatus;
+import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.dto.WaitingTicketResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 쿠폰 발급 대기열 (Virtual Waiting Room)
+ *
+ * - 요청 즉시 단조 증가하는 대기 번호를 발급 (선착순 공정성 유지)
+ * - 드레이너가 고정 주기마다 batchSize 만큼만 순서대로 발급 → DB 동시 접근 1개로 제한
+ *   (드레인은 한 번에 하나만 실행, 수동 호출과 스케줄이 겹치면 나중 호출은 건너뜀)
+ * - 같은 (쿠폰, 사용자)가 대기 중이면 새 번호 없이 기존 대기표를 돌려줌 (중복 대기표가 배치를 차지하지 않도록)
+ * - 사용자는 대기표 ID 로 순번/결과를 폴링 (ID 는 추측할 수 없는 임의 값, 순번과 별개)
+ *
+ * 단일 인스턴스 기준 (대기열이 메모리에 있음)
+ */
+@Slf4j
+@Component
+public class CouponWaitingRoom {
+
+    private final CouponService couponService;
+    private final IssuedCouponRegistry issuedCouponRegistry;
+    private final int batchSize;
+    private final int maxWaiting;
+    private final long resultRetentionMillis;
+
+    private final Queue<Ticket> queue = new ConcurrentLinkedQueue<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Map<WaitingKey, Ticket> waiting = new ConcurrentHashMap<>();   // 대기 중인 (쿠폰, 사용자)
+    private final SecureRandom random = new SecureRandom();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Queue<Ticket> completed = new ArrayDeque<>();   // 완료 순서 (drainLock 보유 중에만 접근)
+    private long lastSequence = 0;                 // enter()에서만 증가 (synchronized)
+    private volatile long drainedSequence = 0;     // 마지막으로 처리된 대기 번호
+
+    public CouponWaitingRoom(CouponService couponService,
+                             IssuedCouponRegistry issuedCouponRegistry,
+                             @Value("${coupon.waiting-room.batch-size:20}") int batchSize,
+                             @Value("${coupon.waiting-room.max-waiting:100000}") int maxWaiting,
+                             @Value("${coupon.waiting-room.result-retention-seconds:600}") long resultRetentionSeconds) {
+        this.couponService = couponService;
+        this.issuedCouponRegistry = issuedCouponRegistry;
+        this.batchSize = batchSize;
+        this.maxWaiting = maxWaiting;
+        this.resultRetentionMillis = resultRetentionSeconds * 1000;
+    }
+
+    /**
+     * 대기열 진입 - 대기 번호 발급
+     */
+    public WaitingTicketResponse enter(IssueCouponRequest request) {
+        if (issuedCouponRegistry.isIssued(request.getCouponId(), request.getUserId())) {
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        }
+
+        WaitingKey key = new WaitingKey(request.getCouponId(), request.getUserId());
+        Ticket ticket;
+        // 번호 채번과 enqueue 순서를 일치시키기 위해 짧게 동기화
+        synchronized (this) {
+            Ticket existing = waiting.get(key);
+            if (existing != null) {
+                return toResponse(existing);
+            }
+            if (lastSequence - drainedSequence >= maxWaiting) {
+                throw new IllegalStateException("대기 인원이 많아 잠시 후 다시 시도해주세요");
+            }
+            ticket = new Ticket(newTicketId(), ++lastSequence, request);
+            tickets.put(ticket.id, ticket);
+            waiting.put(key, ticket);
+            queue.offer(ticket);
+        }
+        return toResponse(ticket);
+    }
+
+    /**
+     * 대기 순번 / 발급 결과 조회
+     */
+    public WaitingTicketResponse getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("대기 번호가 존재하지 않습니다: " + ticketId);
+        }
+        return toResponse(ticket);
+    }
+
+    /**
+     * 고정 주기 드레인 - 한 번에 batchSize 건만 순서대로 발급
+     * 이미 다른 스레드가 드레인 중이면 아무것도 하지 않음
+     */
+    @Scheduled(fixedDelayString = "${coupon.waiting-room.drain-interval-ms:100}")
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+        try {
+            drainBatch();
+            evictExpiredResults();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void drainBatch() {
+        for (int i = 0; i < batchSize; i++) {
+            Ticket ticket = queue.poll();
+            if (ticket == null) {
+                break;
+            }
+            try {
+                couponService.issueCoupon(ticket.request);
+                ticket.complete(WaitingStatus.ISSUED, null);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                ticket.complete(WaitingStatus.FAILED, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("대기열 쿠폰 발급 실패. sequence={}", ticket.sequence, e);
+                ticket.complete(WaitingStatus.FAILED, "쿠폰 발급 중 오류가 발생했습니다");
+            }
+            waiting.remove(new WaitingKey(ticket.request.getCouponId(), ticket.request.getUserId()), ticket);
+            completed.offer(ticket);
+            drainedSequence = ticket.sequence;
+        }
+    }
+
+    /**
+     * 완료 순서대로 보관 기간이 지난 결과만 제거 (전체 대기표 순회 없음)
+     */
+    private void evictExpiredResults() {
+        long expiredBefore = System.currentTimeMillis() - resultRetentionMillis;
+        Ticket oldest;
+        while ((oldest = completed.peek()) != null && oldest.completedAt < expiredBefore) {
+            completed.poll();
+            tickets.remove(oldest.id);
+        }
+    }
+
+    private WaitingTicketResponse toResponse(Ticket ticket) {
+        long waitingAhead = ticket.status == WaitingStatus.WAITING
+                ? Math.max(0, ticket.sequence - drainedSequence - 1)
+                : 0;
+        return WaitingTicketResponse.builder()
+                .ticketId(ticket.id)
+                .sequence(ticket.sequence)
+                .couponId(ticket.request.getCouponId())
+                .userId(ticket.request.getUserId())
+                .status(ticket.status)
+                .waitingAhead(waitingAhead)
+                .message(ticket.message)
+                .build();
+    }
+
+    /**
+     * 128bit 임의 값 (URL 에 그대로 쓸 수 있는 base64)
+     */
+    private String newTicketId() {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private record WaitingKey(Long couponId, Long userId) {
+    }
+
+    private static class Ticket {
+        private final String id;
+        private final long sequence;
+        private final IssueCouponRequest request;
+        private volatile WaitingStatus status = WaitingStatus.WAITING;
+        private volatile String message;
+        private volatile long completedAt;
+
+        private Ticket(String id, long sequence, IssueCouponRequest request) {
+            this.id = id;
+            this.sequence = sequence;
+            this.request = request;
+        }
+
+        private void complete(WaitingStatus status, String message) {
+            this.message = message;
+            this.completedAt = System.currentTimeMillis();
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.CouponIssuedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰별 발급 사용자 집합 (중복 발급 1차 필터)
+ *
+ * 이미 발급된 것으로 확인된 (couponId, userId)는 쿼리 없이 바로 거절한다.
+ * - 집합에 없다고 발급 가능한 것은 아님 → 최종 판단은 (user_id, coupon_id) 유니크 제약
+ * - 커밋된 발급만 기록 (롤백된 발급으로 정상 사용자를 막지 않도록)
+ * - 쿠폰당 최대 인원을 넘으면 더 기록하지 않고 유니크 제약에만 맡김
+ * - 전체 항목 수가 상한을 넘으면 가장 오래 발급이 없던 쿠폰의 집합부터 버림
+ */
+@Component
+public class IssuedCouponRegistry {
+
+    private final Map<Long, IssuedUsers> issuedUsers = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxUsersPerCoupon;
+    private final int maxEntries;
+
+    public IssuedCouponRegistry(
+            @Value("${coupon.issued-registry.max-users-per-coupon:100000}") int maxUsersPerCoupon,
+            @Value("${coupon.issued-registry.max-entries:1000000}") int maxEntries) {
+        this.maxUsersPerCoupon = maxUsersPerCoupon;
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isIssued(Long couponId, Long userId) {
+        IssuedUsers users = issuedUsers.get(couponId);
+        return users != null && users.userIds.contains(userId);
+    }
+
+    public void markIssued(Long couponId, Long userId) {
+        IssuedUsers users = issuedUsers.computeIfAbsent(couponId, id -> new IssuedUsers());
+        users.lastIssuedNanos = System.nanoTime();
+        if (users.userIds.size() < maxUsersPerCoupon && users.userIds.add(userId)
+                && size.incrementAndGet() > maxEntries) {
+            evictIdle(couponId);
+        }
+    }
+
+    /**
+     * 전체 기록 수 (버려진 쿠폰과 동시에 기록된 건은 빠질 수 있는 근사치)
+     */
+    public int size() {
+        return size.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssued(CouponIssuedEvent event) {
+        markIssued(event.getCouponId(), event.getUserId());
+    }
+
+    /**
+     * 상한 아래로 내려갈 때까지 마지막 발급이 가장 오래된 쿠폰 집합 제거 (지금 기록 중인 쿠폰 제외)
+     * 상한 초과 시에만 호출되므로 쿠폰 수만큼의 순회 비용은 드물게 발생
+     */
+    private synchronized void evictIdle(Long currentCouponId) {
+        while (size.get() > maxEntries) {
+            Map.Entry<Long, IssuedUsers> idlest = null;
+            for (Map.Entry<Long, IssuedUsers> entry : issuedUsers.entrySet()) {
+                if (!entry.getKey().equals(currentCouponId)
+                        && (idlest == null || entry.getValue().lastIssuedNanos < idlest.getValue().lastIssuedNanos)) {
+                    idlest = entry;
+                }
+            }
+            if (idlest == null) {
+                return;
+            }
+            if (issuedUsers.remove(idlest.getKey(), idlest.getValue())) {
+                size.addAndGet(-idlest.getValue().userIds.size());
+            }
+        }
+    }
+
+    private static class IssuedUsers {
+        private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+        private volatile long lastIssuedNanos;
+    }
+}
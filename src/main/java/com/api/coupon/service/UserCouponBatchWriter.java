@@ -0,0 +1,243 @@
+package com.api.coupon.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 발급 기록 Group Commit writer
+ *
+ * 동시에 들어온 발급 기록을 몇 ms 동안 모아 한 트랜잭션에서 처리한다.
+ * - user_coupon INSERT는 JDBC batch 1회
+ * - coupon.issued_quantity는 쿠폰별로 합산해 UPDATE 1회씩
+ * - 커밋이 끝난 뒤에 요청별 future를 완료 (커밋 전 응답 없음)
+ *
+ * 배치 중 한 건이라도 실패하면 (중복 발급 등) 배치 전체를 롤백하고
+ * 건별 트랜잭션으로 다시 처리해 실패한 요청만 실패시킨다.
+ *
+ * 요청 스레드는 awaitTimeoutMillis 까지만 기다린다.
+ * - writer 가 집어 가기 전이면 future.cancel() 로 취소 가능 (저장되지 않음 보장)
+ * - writer 가 멈추거나 종료되면 남은 요청은 모두 예외로 완료
+ *
+ * 주의:
+ * - writer 스레드는 1개 (커밋 순서 = 큐 순서)
+ * - 건별 커밋보다 지연은 최대 maxWaitMillis 만큼 늘어난다
+ */
+@Slf4j
+@Component
+public class UserCouponBatchWriter {
+
+    private static final String INSERT_USER_COUPON =
+            "insert into user_coupon (user_id, coupon_id, issued_at, used) values (?, ?, ?, false)";
+    private static final String INCREASE_ISSUED_QUANTITY =
+            "update coupon set issued_quantity = issued_quantity + ? " +
+            "where id = ? and issued_quantity + ? <= total_quantity";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingIssue> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    @Getter
+    private final long awaitTimeoutMillis;
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public UserCouponBatchWriter(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${coupon.batch-writer.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${coupon.batch-writer.max-batch-size:500}") int maxBatchSize,
+                                 @Value("${coupon.batch-writer.max-wait-ms:5}") long maxWaitMillis,
+                                 @Value("${coupon.batch-writer.await-timeout-ms:3000}") long awaitTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        writerThread = new Thread(this::run, "user-coupon-batch-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // 시간 안에 처리되지 못한 요청은 대기 중인 스레드가 풀려나도록 실패 처리
+        failQueued();
+    }
+
+    /**
+     * 발급 기록 저장 요청 (커밋 완료 시 future 완료)
+     *
+     * 중복 발급이면 IllegalStateException, 잔여 수량 초과면 IllegalStateException으로 실패
+     */
+    public CompletableFuture<Void> submit(Long couponId, Long userId) {
+        PendingIssue pending = new PendingIssue(couponId, userId, LocalDateTime.now());
+        if (!running || !queue.offer(pending)) {
+            pending.completeExceptionally(new IllegalStateException("발급 요청이 많아 처리할 수 없습니다"));
+        }
+        return pending;
+    }
+
+    private void run() {
+        try {
+            drainLoop();
+        } finally {
+            // 예기치 못한 오류로 writer 가 끝나도 새 요청은 즉시 거절, 남은 요청은 실패 처리
+            running = false;
+            failQueued();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingIssue> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 첫 건이 올 때까지 대기 후, 최대 maxWaitNanos 동안 더 모음
+                PendingIssue first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingIssue next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            } catch (InterruptedException e) {
+                // 종료 중 - 남은 요청은 마저 처리
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+
+            // 요청 스레드가 이미 취소한 건은 제외 (여기서 집어 간 건은 더 이상 취소 불가)
+            batch.removeIf(pending -> !pending.claim());
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void failQueued() {
+        List<PendingIssue> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (PendingIssue pending : remaining) {
+            pending.completeExceptionally(new IllegalStateException("발급 처리를 중단했습니다. 잠시 후 다시 시도해주세요"));
+        }
+    }
+
+    private void flush(List<PendingIssue> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+        } catch (RuntimeException e) {
+            log.debug("발급 배치 실패, 건별 처리로 전환 (size={}): {}", batch.size(), e.getMessage());
+            for (PendingIssue pending : batch) {
+                writeOne(pending);
+            }
+            return;
+        }
+        for (PendingIssue pending : batch) {
+            pending.complete(null);
+        }
+    }
+
+    private void writeBatch(List<PendingIssue> batch) {
+        jdbcTemplate.batchUpdate(INSERT_USER_COUPON, batch, batch.size(), (ps, pending) -> {
+            ps.setLong(1, pending.userId);
+            ps.setLong(2, pending.couponId);
+            ps.setTimestamp(3, Timestamp.valueOf(pending.issuedAt));
+        });
+
+        // 쿠폰별 합산 (쿠폰 ID 순으로 UPDATE - 락 순서 고정)
+        Map<Long, Integer> counts = new TreeMap<>();
+        for (PendingIssue pending : batch) {
+            counts.merge(pending.couponId, 1, Integer::sum);
+        }
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            increaseIssuedQuantity(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void writeOne(PendingIssue pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_USER_COUPON,
+                        pending.userId, pending.couponId, Timestamp.valueOf(pending.issuedAt));
+                increaseIssuedQuantity(pending.couponId, 1);
+            });
+            pending.complete(null);
+        } catch (DuplicateKeyException e) {
+            pending.completeExceptionally(new IllegalStateException("이미 발급받은 쿠폰입니다"));
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+        }
+    }
+
+    private void increaseIssuedQuantity(Long couponId, int count) {
+        if (jdbcTemplate.update(INCREASE_ISSUED_QUANTITY, count, couponId, count) == 0) {
+            throw new IllegalStateException("쿠폰 발급이 불가합니다");
+        }
+    }
+
+    /**
+     * 발급 요청 겸 결과 future
+     * writer 가 claim() 한 뒤에는 cancel() 이 false (커밋 여부는 future 결과로만 확인)
+     */
+    private static class PendingIssue extends CompletableFuture<Void> {
+        private final Long couponId;
+        private final Long userId;
+        private final LocalDateTime issuedAt;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingIssue(Long couponId, Long userId, LocalDateTime issuedAt) {
+            this.couponId = couponId;
+            this.userId = userId;
+            this.issuedAt = issuedAt;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claim() && super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.domain.CouponUsedEvent;
+import com.api.coupon.dto.CouponResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 쿠폰 지갑 캐시 (LRU, 최대 maxSize 명)
+ *
+ * - 미스: 조인 쿼리 1회로 적재
+ * - 히트: 쿼리 0회
+ * - 발급/사용 커밋 후 해당 사용자 무효화
+ *
+ * 무효화 시 세대(generation)를 올려서, 무효화 이전에 시작된 조회 결과가
+ * 늦게 저장되어 오래된 지갑이 다시 캐시되는 것을 막는다.
+ * 세대는 LRU 밖의 사용자 해시 구간별 카운터에 두어 축출과 무관하게 유지되고,
+ * 무효화는 캐시에 있는 항목만 지운다. (같은 구간 사용자의 적재가 가끔 저장되지 않을 뿐)
+ * 유효기간 판단은 시각에 따라 달라지므로 캐시하지 않고 조회 시점에 필터링한다.
+ */
+@Component
+public class UserCouponWalletCache {
+
+    private static final int GENERATION_STRIPES = 1 << 12;
+
+    private final Map<Long, List<CouponResponse>> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserCouponWalletCache(@Value("${coupon.wallet-cache.max-size:10000}") int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<CouponResponse>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public List<CouponResponse> get(Long userId, Supplier<List<CouponResponse>> loader) {
+        int stripe = stripe(userId);
+        long generation;
+        synchronized (entries) {
+            List<CouponResponse> coupons = entries.get(userId);
+            if (coupons != null) {
+                return coupons;
+            }
+            generation = generations.get(stripe);
+        }
+
+        // 조회는 락 밖에서
+        List<CouponResponse> loaded = List.copyOf(loader.get());
+
+        synchronized (entries) {
+            if (generations.get(stripe) == generation) {
+                entries.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripe(userId));
+            entries.remove(userId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssued(CouponIssuedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsed(CouponUsedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    /**
+     * 곱셈 해시의 상위 12비트 (연속된 userId 도 구간이 고르게 흩어지도록)
+     */
+    private static int stripe(Long userId) {
+        return (int) ((userId * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - 12));
+    }
+}
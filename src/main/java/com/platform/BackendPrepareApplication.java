@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.platform", "com.api"})
 @EnableJpaRepositories(basePackages = {"com.platform", "com.api"})
 @EntityScan(basePackages = {"com.platform", "com.api"})
+@EnableScheduling
 public class BackendPrepareApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,41 @@
+package com.platform.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 쓰기/읽기 커넥션 풀 분리 설정 (datasource.bulkhead.*)
+ *
+ * 락을 잡는 쓰기(주문, 쿠폰 발급)가 풀을 모두 차지해도 읽기는 별도 풀에서 처리된다.
+ * 쓰기 풀은 대기 시간을 짧게 두어 풀이 꽉 차면 빨리 거절(503)한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.bulkhead")
+public class BulkheadProperties {
+
+    /** Hikari 가 허용하는 최소 connectionTimeout (더 작으면 30초로 바뀜) */
+    static final long MIN_CONNECTION_TIMEOUT_MS = 250;
+
+    private boolean enabled = false;
+
+    private Pool write = new Pool(10, 300);
+
+    private Pool read = new Pool(10, 3000);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maximumPoolSize;
+        private long connectionTimeoutMs;
+
+        public Pool() {
+        }
+
+        public Pool(int maximumPoolSize, long connectionTimeoutMs) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionTimeoutMs = connectionTimeoutMs;
+        }
+    }
+}
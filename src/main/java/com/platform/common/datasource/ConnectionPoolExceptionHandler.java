@@ -0,0 +1,51 @@
+package com.platform.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+
+/**
+ * 쓰기 풀에서 커넥션을 얻지 못한 요청을 503 으로 빠르게 거절 (datasource.bulkhead.enabled=true 일 때만)
+ *
+ * 쓰기 풀 대기 시간(datasource.bulkhead.write.connection-timeout-ms)이 지나면
+ * 요청 스레드를 더 붙잡지 않고 Retry-After 와 함께 돌려보낸다.
+ * 원인이 쓰기 풀 대기 시간 초과가 아니면(DB 장애 등) 다시 던져 기본 오류 처리에 맡긴다.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnProperty(name = "datasource.bulkhead.enabled", havingValue = "true")
+public class ConnectionPoolExceptionHandler {
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Map<String, String>> handleConnectionFailure(RuntimeException e) {
+        if (!isWritePoolTimeout(e)) {
+            throw e;
+        }
+        log.warn("쓰기 풀 커넥션 획득 실패: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Map.of("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+    }
+
+    /**
+     * HikariCP 대기 시간 초과는 "풀이름 - Connection is not available ..." 메시지의 SQLTransientConnectionException
+     */
+    static boolean isWritePoolTimeout(Throwable error) {
+        Throwable cause = error;
+        for (int depth = 0; cause != null && depth < 16; depth++, cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException && cause.getMessage() != null
+                    && cause.getMessage().startsWith(RoutingDataSourceConfig.WRITE_POOL + " - ")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
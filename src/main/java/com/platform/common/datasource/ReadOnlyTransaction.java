@@ -0,0 +1,41 @@
+package com.platform.common.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * @Transactional 을 붙일 수 없는 조회(캐시 로더, 스케줄 재적재 등)를 readOnly 트랜잭션으로 실행
+ *
+ * readOnly 트랜잭션이어야 replica / 읽기 풀로 라우팅된다. (ReadReplicaRoutingDataSource)
+ * 결과를 TTL 없이 캐시하는 로더는 executeOnPrimary - 지연된 replica 결과가 다음 무효화까지 남지 않도록
+ * TransactionTemplate 빈을 하나 더 두면 기본 TransactionTemplate 주입이 모호해지므로 감싸서 제공
+ */
+@Component
+public class ReadOnlyTransaction {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ReadOnlyTransaction(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T execute(Supplier<T> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    /**
+     * readOnly 트랜잭션이지만 replica 대신 primary(bulkhead 사용 시 읽기 풀)에서 조회 (직전 쓰기가 보여야 하는 경우)
+     */
+    public <T> T executeOnPrimary(Supplier<T> query) {
+        boolean previous = ReadReplicaRoutingDataSource.setPrimaryRead(true);
+        try {
+            return execute(query);
+        } finally {
+            ReadReplicaRoutingDataSource.setPrimaryRead(previous);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.platform.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica(없으면 읽기 풀), readOnly 가 아닌 트랜잭션은 primary,
+ * 트랜잭션 밖 접근은 읽기 풀(없으면 primary)로 보내는 DataSource
+ *
+ * 쓰기 풀(primary)은 @Transactional 쓰기만 사용하므로 쓰기가 몰려 풀이 차도 트랜잭션 밖 조회는 영향이 없다.
+ * 트랜잭션 밖 접근은 replica 로 보내지 않는다. (직전 쓰기를 읽어야 하는 호출이 섞일 수 있음)
+ * readOnly 트랜잭션이라도 primary 읽기로 표시된 스레드(ReadOnlyTransaction.executeOnPrimary)는 replica 로 보내지 않는다.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 표시가 아직 없으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 시점에 커넥션을 고르게 한다.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String READ = "read";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final ReplicaSelector replicaSelector;
+    private final String readFallbackKey;
+
+    /**
+     * @param readFallbackKey 사용 가능한 replica 가 없을 때 readOnly 트랜잭션과 트랜잭션 밖 접근이 쓸 대상 (PRIMARY 또는 READ)
+     */
+    public ReadReplicaRoutingDataSource(ReplicaSelector replicaSelector, String readFallbackKey) {
+        this.replicaSelector = replicaSelector;
+        this.readFallbackKey = readFallbackKey;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return readFallbackKey;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String replica = isPrimaryRead() ? null : replicaSelector.next();
+            return replica != null ? replica : readFallbackKey;
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 현재 스레드의 readOnly 조회를 replica 대신 readFallbackKey 로 보낼지 지정 (이전 값 반환)
+     */
+    static boolean setPrimaryRead(boolean primaryRead) {
+        boolean previous = isPrimaryRead();
+        if (primaryRead) {
+            PRIMARY_READ.set(Boolean.TRUE);
+        } else {
+            PRIMARY_READ.remove();
+        }
+        return previous;
+    }
+
+    private static boolean isPrimaryRead() {
+        return PRIMARY_READ.get() != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.platform.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * replica 커넥션 풀 목록 (이름 → 풀), 컨텍스트 종료 시 함께 닫는다
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+
+    void add(String name, HikariDataSource dataSource) {
+        dataSources.put(name, dataSource);
+    }
+
+    public Map<String, DataSource> asMap() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
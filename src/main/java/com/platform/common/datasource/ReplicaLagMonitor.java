@@ -0,0 +1,120 @@
+package com.platform.common.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 지연 확인 후 사용 가능 목록 갱신
+ *
+ * lag-query 결과가 max-lag-ms 를 넘거나 조회에 실패한 replica 는 다음 확인까지 제외한다.
+ * - 공용 스케줄러를 막지 않도록 전용 스레드에서 확인 (기동 시에도 비동기, 첫 확인 전까지는 primary/읽기 풀로 읽음)
+ * - 확인용 DataSource 는 replica 마다 커넥션 1개, 연결/쿼리 대기는 lag-check-timeout-ms 로 제한
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, DataSource> replicas;
+    private final ReplicaSelector replicaSelector;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final long intervalMs;
+    private final int queryTimeoutSeconds;
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param replicas 확인 전용 DataSource (replica 키별, stop 시 닫음)
+     */
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, ReplicaSelector replicaSelector,
+                             String lagQuery, long maxLagMs, long intervalMs, long timeoutMs) {
+        this.replicas = replicas;
+        this.replicaSelector = replicaSelector;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.intervalMs = intervalMs;
+        this.queryTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs + 999));
+    }
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                check();
+            } catch (RuntimeException e) {
+                log.warn("replica 지연 확인 실패", e);
+            }
+        }, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica 확인용 DataSource 닫기 실패", e);
+                }
+            }
+        }
+    }
+
+    public synchronized void check() {
+        List<String> available = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            if (isFresh(replica.getKey(), replica.getValue())) {
+                available.add(replica.getKey());
+            }
+        }
+        if (!available.equals(replicaSelector.getAvailable())) {
+            log.info("읽기 replica 변경: {} → {}", replicaSelector.getAvailable(), available);
+        }
+        replicaSelector.setAvailable(available);
+    }
+
+    private boolean isFresh(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (lagQuery == null) {
+                return connection.isValid(queryTimeoutSeconds);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(queryTimeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    long lagMs = resultSet.getLong(1);
+                    if (lagMs > maxLagMs) {
+                        log.warn("replica {} 지연 {}ms (허용 {}ms) - primary 로 읽음", name, lagMs, maxLagMs);
+                        return false;
+                    }
+                    return true;
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            // 풀 초기화 실패(연결 불가)는 RuntimeException 으로 올라옴
+            log.warn("replica {} 확인 실패 - 제외: {}", name, e.getMessage());
+            return false;
+        }
+    }
+}
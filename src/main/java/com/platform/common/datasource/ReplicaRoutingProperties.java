@@ -0,0 +1,47 @@
+package com.platform.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션 replica 라우팅 설정 (datasource.routing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * replica 지연 조회 SQL (지연 ms 를 숫자 1개로 반환, 비우면 연결 가능 여부만 확인)
+     */
+    private String lagQuery;
+
+    /**
+     * 이보다 뒤처진 replica 는 제외 (모두 제외되면 primary 로 읽음)
+     */
+    private long maxLagMs = 1000;
+
+    private long lagCheckIntervalMs = 1000;
+
+    /**
+     * 지연 확인 시 연결 대기 / 쿼리 시간 상한 (replica 가 응답하지 않으면 이만큼만 기다리고 제외)
+     */
+    private long lagCheckTimeoutMs = 500;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
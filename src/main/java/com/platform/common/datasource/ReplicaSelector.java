@@ -0,0 +1,33 @@
+package com.platform.common.datasource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용 가능한 replica 중 라운드 로빈 선택
+ * 사용 가능 목록은 ReplicaLagMonitor 가 주기적으로 교체한다.
+ */
+public class ReplicaSelector {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private volatile List<String> available = List.of();
+
+    /**
+     * @return replica 키 (사용 가능한 replica 가 없으면 null → primary)
+     */
+    public String next() {
+        List<String> replicas = available;
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        return replicas.get(Math.floorMod(sequence.getAndIncrement(), replicas.size()));
+    }
+
+    public void setAvailable(List<String> replicas) {
+        this.available = List.copyOf(replicas);
+    }
+
+    public List<String> getAvailable() {
+        return available;
+    }
+}
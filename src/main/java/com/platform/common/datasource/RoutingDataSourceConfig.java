@@ -0,0 +1,166 @@
+package com.platform.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 종류별 커넥션 풀 라우팅
+ *
+ * 읽기 replica (datasource.routing.enabled=true)
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: datasource.routing.replicas[*], 풀은 replica 마다 따로
+ * - @Transactional(readOnly = true) → 지연이 허용 범위인 replica 중 라운드 로빈, 없으면 primary(또는 읽기 풀)
+ *
+ * 쓰기/읽기 풀 분리 (datasource.bulkhead.enabled=true)
+ * - write: readOnly 가 아닌 트랜잭션 (주문, 쿠폰 발급 등 락을 잡는 쓰기), 대기 시간이 짧다
+ * - read : readOnly 트랜잭션 (replica 를 쓰지 않을 때) + 트랜잭션 밖 접근 (캐시 로더, 스키마 초기화 등)
+ *          트랜잭션 밖 쓰기도 받으므로 풀 자체는 read-only 로 열지 않음 (readOnly 트랜잭션은 커넥션에 표시됨)
+ * - 풀마다 hikaricp.connections.* 메트릭이 pool 태그(write / read)로 따로 나온다
+ *
+ * 쓰기 직후 같은 사용자의 읽기도 replica 로 갈 수 있으므로 (복제 지연만큼 이전 데이터)
+ * 쓰기 결과를 바로 다시 읽어야 하는 흐름은 readOnly 가 아닌 트랜잭션에서 읽는다.
+ */
+@Configuration
+@ConditionalOnExpression("${datasource.routing.enabled:false} or ${datasource.bulkhead.enabled:false}")
+@EnableConfigurationProperties({ReplicaRoutingProperties.class, BulkheadProperties.class})
+public class RoutingDataSourceConfig {
+
+    static final String WRITE_POOL = "write";
+
+    @Bean
+    public ReplicaSelector replicaSelector() {
+        return new ReplicaSelector();
+    }
+
+    /**
+     * 쓰기(기본) 풀 - bulkhead 사용 시 write 풀
+     */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, BulkheadProperties bulkhead,
+                                              Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        if (bulkhead.isEnabled()) {
+            applyPool(dataSource, WRITE_POOL, bulkhead.getWrite());
+        } else {
+            dataSource.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        }
+        return dataSource;
+    }
+
+    /**
+     * 읽기 풀 - primary 와 같은 DB, 별도 커넥션
+     */
+    @Bean
+    @ConditionalOnProperty(name = "datasource.bulkhead.enabled", havingValue = "true")
+    public HikariDataSource readPoolDataSource(DataSourceProperties properties, BulkheadProperties bulkhead,
+                                               Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        applyPool(dataSource, ReadReplicaRoutingDataSource.READ, bulkhead.getRead());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(ReplicaRoutingProperties properties,
+                                                 @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaDataSources replicas = new ReplicaDataSources();
+        if (!properties.isEnabled()) {
+            return replicas;
+        }
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            HikariDataSource replica = createReplica("replica-" + i, properties.getReplicas().get(i), primaryDataSource);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.add(replica.getPoolName(), replica);
+        }
+        return replicas;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("readPoolDataSource") ObjectProvider<HikariDataSource> readPoolDataSource,
+                                 ReplicaDataSources replicaDataSources, ReplicaSelector replicaSelector) {
+        Map<Object, Object> targets = new HashMap<>(replicaDataSources.asMap());
+        targets.put(ReadReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        String readFallback = ReadReplicaRoutingDataSource.PRIMARY;
+        HikariDataSource readPool = readPoolDataSource.getIfAvailable();
+        if (readPool != null) {
+            targets.put(ReadReplicaRoutingDataSource.READ, readPool);
+            readFallback = ReadReplicaRoutingDataSource.READ;
+        }
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(replicaSelector, readFallback);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * replica 지연 확인 - 요청용 풀과 별도로 replica 마다 커넥션 1개, 짧은 연결 대기
+     */
+    @Bean
+    @ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingProperties properties, ReplicaSelector replicaSelector,
+                                               @Qualifier("primaryDataSource") HikariDataSource primaryDataSource) {
+        if (properties.getLagCheckTimeoutMs() < BulkheadProperties.MIN_CONNECTION_TIMEOUT_MS) {
+            throw new IllegalArgumentException("datasource.routing.lag-check-timeout-ms 는 "
+                    + BulkheadProperties.MIN_CONNECTION_TIMEOUT_MS + "ms 이상이어야 합니다");
+        }
+        Map<String, DataSource> lagCheckDataSources = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            String name = "replica-" + i;
+            HikariDataSource dataSource = createReplica(name + "-lag-check", properties.getReplicas().get(i),
+                    primaryDataSource);
+            dataSource.setMaximumPoolSize(1);
+            dataSource.setConnectionTimeout(properties.getLagCheckTimeoutMs());
+            lagCheckDataSources.put(name, dataSource);
+        }
+        return new ReplicaLagMonitor(lagCheckDataSources, replicaSelector, properties.getLagQuery(),
+                properties.getMaxLagMs(), properties.getLagCheckIntervalMs(), properties.getLagCheckTimeoutMs());
+    }
+
+    private static void applyPool(HikariDataSource dataSource, String name, BulkheadProperties.Pool pool) {
+        if (pool.getConnectionTimeoutMs() < BulkheadProperties.MIN_CONNECTION_TIMEOUT_MS) {
+            throw new IllegalArgumentException("datasource.bulkhead." + name + ".connection-timeout-ms 는 "
+                    + BulkheadProperties.MIN_CONNECTION_TIMEOUT_MS + "ms 이상이어야 합니다");
+        }
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeoutMs());
+    }
+
+    private static HikariDataSource createReplica(String name, ReplicaRoutingProperties.Replica replica,
+                                                  HikariDataSource primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        dataSource.setDriverClassName(primary.getDriverClassName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,27 @@
+package com.platform.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * 충돌 후 재시도 전 대기 구간
+ */
+@Name("com.platform.Backoff")
+@Label("Backoff")
+@Category({"Platform", "Contention"})
+@Description("재시도 전 sleep 구간")
+public class BackoffEvent extends jdk.jfr.Event {
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Planned")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedMillis;
+}
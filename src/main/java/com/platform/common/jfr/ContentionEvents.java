@@ -0,0 +1,91 @@
+package com.platform.common.jfr;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * 경합 관련 JFR 이벤트 기록
+ *
+ * 녹화 중이 아니거나 이벤트가 꺼져 있으면 shouldCommit()/isEnabled() 에서 바로 빠지므로
+ * 운영 노드에 상시 두어도 비용이 거의 없다. 설정: resources/jfr/contention.jfc
+ */
+public final class ContentionEvents {
+
+    public static final String PESSIMISTIC = "pessimistic";
+    public static final String CONDITIONAL_UPDATE = "conditional-update";
+
+    private static final long UNKNOWN = -1;
+
+    static {
+        // 첫 발생 전에도 JMC / jfr configure 에서 보이도록 미리 등록
+        FlightRecorder.register(LockAcquireEvent.class);
+        FlightRecorder.register(OptimisticConflictEvent.class);
+        FlightRecorder.register(BackoffEvent.class);
+        FlightRecorder.register(OutOfStockEvent.class);
+    }
+
+    private ContentionEvents() {
+    }
+
+    /**
+     * 락 획득 구간 시작 (락 조회 직전에 호출)
+     */
+    public static LockAcquireEvent beginLockAcquire(String resource, Long resourceId, String mode) {
+        LockAcquireEvent event = new LockAcquireEvent();
+        event.begin();
+        event.resource = resource;
+        event.resourceId = resourceId == null ? UNKNOWN : resourceId;
+        event.mode = mode;
+        return event;
+    }
+
+    /**
+     * 락 획득 구간 종료
+     */
+    public static void endLockAcquire(LockAcquireEvent event, boolean acquired) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.acquired = acquired;
+            event.commit();
+        }
+    }
+
+    public static void optimisticConflict(String resource, Object resourceId, int attempt) {
+        OptimisticConflictEvent event = new OptimisticConflictEvent();
+        if (event.isEnabled()) {
+            event.resource = resource;
+            event.resourceId = resourceId instanceof Number number ? number.longValue() : UNKNOWN;
+            event.attempt = attempt;
+            event.commit();
+        }
+    }
+
+    /**
+     * 재시도 전 대기 (sleep 구간을 이벤트로 기록)
+     */
+    public static void backoff(String resource, int attempt, long millis) throws InterruptedException {
+        BackoffEvent event = new BackoffEvent();
+        event.begin();
+        try {
+            Thread.sleep(millis);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.resource = resource;
+                event.attempt = attempt;
+                event.plannedMillis = millis;
+                event.commit();
+            }
+        }
+    }
+
+    public static void outOfStock(String resource, Long resourceId, int requested, int remaining) {
+        OutOfStockEvent event = new OutOfStockEvent();
+        if (event.isEnabled()) {
+            event.resource = resource;
+            event.resourceId = resourceId == null ? UNKNOWN : resourceId;
+            event.requested = requested;
+            event.remaining = remaining;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.platform.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 메뉴/쿠폰 row 락 획득 구간 (SELECT ... FOR UPDATE, 조건부 UPDATE)
+ */
+@Name("com.platform.LockAcquire")
+@Label("Lock Acquire")
+@Category({"Platform", "Contention"})
+@Description("메뉴/쿠폰 row 락을 잡는 데 걸린 시간 (대기 포함)")
+public class LockAcquireEvent extends jdk.jfr.Event {
+
+    @Label("Resource")
+    @Description("menu / coupon")
+    String resource;
+
+    @Label("Resource Id")
+    long resourceId;
+
+    @Label("Mode")
+    @Description("pessimistic / conditional-update")
+    String mode;
+
+    @Label("Acquired")
+    @Description("조건부 UPDATE 가 0건이면 false")
+    boolean acquired;
+}
@@ -0,0 +1,26 @@
+package com.platform.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 낙관적 락 버전 충돌
+ */
+@Name("com.platform.OptimisticConflict")
+@Label("Optimistic Conflict")
+@Category({"Platform", "Contention"})
+@Description("@Version 충돌로 주문 시도가 실패")
+public class OptimisticConflictEvent extends jdk.jfr.Event {
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Resource Id")
+    @Description("알 수 없으면 -1")
+    long resourceId;
+
+    @Label("Attempt")
+    int attempt;
+}
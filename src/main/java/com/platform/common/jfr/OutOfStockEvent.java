@@ -0,0 +1,29 @@
+package com.platform.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 재고/발급 수량 소진으로 인한 거절
+ */
+@Name("com.platform.OutOfStock")
+@Label("Out Of Stock")
+@Category({"Platform", "Contention"})
+@Description("재고 부족 또는 쿠폰 수량 소진으로 요청 거절")
+public class OutOfStockEvent extends jdk.jfr.Event {
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Resource Id")
+    long resourceId;
+
+    @Label("Requested")
+    int requested;
+
+    @Label("Remaining")
+    @Description("알 수 없으면 -1")
+    int remaining;
+}
@@ -0,0 +1,138 @@
+package com.platform.common.metrics;
+
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.jfr.LockAcquireEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 락 경합 / 주문·발급 결과 메트릭
+ *
+ * - lock.acquire: 비관적 락 조회 시간 (resource 태그, JFR LockAcquire 이벤트도 함께 기록)
+ * - lock.optimistic.retry: 낙관적 락 충돌로 인한 재시도 (attempt 태그), 소진 시 lock.optimistic.exhausted
+ * - orders.create / coupons.issue: 지연 히스토그램 (strategy, outcome 태그)
+ *
+ * 커넥션 풀 상태는 actuator 의 hikaricp.connections.* 게이지로 함께 본다.
+ * (outcome=pool_timeout 증가 + hikaricp.connections.pending 증가 → 풀 고갈,
+ *  lock.acquire 증가 + 풀 여유 → 락 경합)
+ */
+@Component
+public class ContentionMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_CONFLICT = "conflict";
+    public static final String OUTCOME_POOL_TIMEOUT = "pool_timeout";
+    public static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> lockTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> outcomeTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retryCounters = new ConcurrentHashMap<>();
+
+    public ContentionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 비관적 락 조회 시간 측정
+     */
+    public <T> T timeLockAcquire(String resource, Long resourceId, Supplier<T> lookup) {
+        LockAcquireEvent event = ContentionEvents.beginLockAcquire(resource, resourceId, ContentionEvents.PESSIMISTIC);
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            T result = lookup.get();
+            acquired = true;
+            return result;
+        } finally {
+            recordLockWait(resource, System.nanoTime() - start);
+            ContentionEvents.endLockAcquire(event, acquired);
+        }
+    }
+
+    public void recordLockWait(String resource, long nanos) {
+        lockTimers.computeIfAbsent(resource, key -> Timer.builder("lock.acquire")
+                        .description("비관적 락 조회 (대기 포함) 시간")
+                        .tag("resource", key)
+                        .tag("mode", "pessimistic")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 낙관적 락 충돌 후 재시도 (attempt = 1부터)
+     */
+    public void recordOptimisticRetry(String resource, int attempt) {
+        retryCounter("lock.optimistic.retry", resource, String.valueOf(attempt)).increment();
+    }
+
+    /**
+     * 재시도를 모두 쓰고 실패
+     */
+    public void recordOptimisticExhausted(String resource) {
+        retryCounter("lock.optimistic.exhausted", resource, "last").increment();
+    }
+
+    public void recordOutcome(String operation, String strategy, String outcome, long nanos) {
+        outcomeTimers.computeIfAbsent(operation + '|' + strategy + '|' + outcome, key -> Timer.builder(operation)
+                        .tag("strategy", strategy)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 예외 → outcome 태그
+     * 원인 체인에 락 충돌/커넥션 획득 실패가 있으면 그쪽을 우선한다.
+     */
+    public static String classify(Throwable error) {
+        if (error == null) {
+            return OUTCOME_SUCCESS;
+        }
+        Throwable cause = error;
+        for (int depth = 0; cause != null && depth < 16; depth++, cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException
+                    || cause instanceof OptimisticLockException
+                    || cause instanceof PessimisticLockException
+                    || cause instanceof LockTimeoutException) {
+                return OUTCOME_CONFLICT;
+            }
+            if (cause instanceof CannotGetJdbcConnectionException
+                    || cause instanceof SQLTransientConnectionException) {
+                return OUTCOME_POOL_TIMEOUT;
+            }
+        }
+        if (error instanceof IllegalArgumentException || error instanceof IllegalStateException) {
+            return OUTCOME_REJECTED;
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private Counter retryCounter(String name, String resource, String attempt) {
+        return retryCounters.computeIfAbsent(name + '|' + resource + '|' + attempt, key -> Counter.builder(name)
+                .tag("resource", resource)
+                .tag("attempt", attempt)
+                .register(registry));
+    }
+}
@@ -0,0 +1,29 @@
+package com.platform.common.metrics;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * {@link OutcomeTimed} AOP 설정
+ * 트랜잭션 바깥에서 감싸 커밋 시점의 충돌(낙관적 락 등)까지 결과에 포함한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor outcomeTimedAdvisor(ObjectProvider<ContentionMetrics> contentionMetrics) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(OutcomeTimed.class),
+                new OutcomeTimingInterceptor(contentionMetrics));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,28 @@
+package com.platform.common.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 지연 시간을 전략/결과 태그와 함께 기록 (커밋 시간 포함)
+ *
+ * 결과 태그: success / rejected / conflict / pool_timeout / error
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OutcomeTimed {
+
+    /**
+     * 메트릭 이름 (예: orders.create, coupons.issue)
+     */
+    String value();
+
+    /**
+     * 동시성 처리 전략 태그
+     */
+    String strategy();
+}
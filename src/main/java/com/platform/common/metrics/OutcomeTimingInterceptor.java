@@ -0,0 +1,44 @@
+package com.platform.common.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link OutcomeTimed} 메서드의 지연 시간을 결과별로 기록
+ */
+class OutcomeTimingInterceptor implements MethodInterceptor {
+
+    // Advisor 는 일찍 생성되므로 메트릭 빈은 첫 호출 시점에 조회
+    private final ObjectProvider<ContentionMetrics> contentionMetrics;
+
+    OutcomeTimingInterceptor(ObjectProvider<ContentionMetrics> contentionMetrics) {
+        this.contentionMetrics = contentionMetrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() == null ? null : AopUtils.getTargetClass(invocation.getThis());
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        OutcomeTimed timed = AnnotatedElementUtils.findMergedAnnotation(method, OutcomeTimed.class);
+        if (timed == null) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            contentionMetrics.getObject().recordOutcome(timed.value(), timed.strategy(),
+                    ContentionMetrics.classify(error), System.nanoTime() - start);
+        }
+    }
+}
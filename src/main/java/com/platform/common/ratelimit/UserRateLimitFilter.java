@@ -0,0 +1,153 @@
+package com.platform.common.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 발급/주문 API 사용자별 요청 제한 필터
+ *
+ * 컨트롤러(DispatcherServlet) 앞에서 동작하므로 제한된 요청은 DB에 닿지 않는다.
+ * userId 는 컨트롤러가 실제로 쓰는 JSON body 최상위 "userId" 만 사용한다.
+ * (헤더 등 다른 값을 쓰면 임의 값으로 매번 새 버킷을 받아 제한을 피할 수 있음)
+ * 찾지 못하면 제한하지 않고 통과 (요청 검증은 컨트롤러 몫)
+ *
+ * body 는 maxBodyBytes 까지만 읽는다. 길이를 모르는(chunked) 요청도 같은 한도로 읽고,
+ * 한도를 넘으면 413 으로 거절 (큰 body 로 제한을 우회하거나 메모리를 쓰지 못하도록)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class UserRateLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> LIMITED_PATHS = List.of(
+            "/api/coupons/issue",
+            "/api/coupons/issue/**",
+            "/api/orders",
+            "/api/orders/**",
+            "/api/checkout"
+    );
+
+    private final UserRateLimiter userRateLimiter;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public UserRateLimitFilter(UserRateLimiter userRateLimiter,
+                               @Value("${rate-limit.enabled:true}") boolean enabled,
+                               @Value("${rate-limit.max-body-bytes:65536}") int maxBodyBytes) {
+        this.userRateLimiter = userRateLimiter;
+        this.enabled = enabled;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : LIMITED_PATHS) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!MediaType.APPLICATION_JSON.isCompatibleWith(contentType(request))) {
+            // JSON 이 아니면 컨트롤러에서 415 (DB 접근 없음)
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다");
+            return;
+        }
+        CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, maxBodyBytes);
+        if (cached.isTruncated()) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다");
+            return;
+        }
+
+        Long userId = extractUserId(cached.getBody());
+        if (userId != null && !userRateLimiter.tryAcquire(userId)) {
+            response.setHeader("Retry-After", "1");
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요");
+            return;
+        }
+
+        filterChain.doFilter(cached, response);
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"" + message + "\"}");
+    }
+
+    /**
+     * JSON body 최상위 "userId" 값만 스트리밍으로 찾음 (전체 역직렬화 없음)
+     */
+    private Long extractUserId(byte[] body) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("userId".equals(field)) {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        return parser.getLongValue();
+                    }
+                    return value == JsonToken.VALUE_STRING ? parseLong(parser.getText()) : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // 잘못된 JSON - 컨트롤러에서 400 처리
+        }
+        return null;
+    }
+
+    private static MediaType contentType(HttpServletRequest request) {
+        try {
+            return request.getContentType() == null ? null : MediaType.parseMediaType(request.getContentType());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
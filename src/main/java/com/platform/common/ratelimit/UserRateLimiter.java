@@ -0,0 +1,206 @@
+package com.platform.common.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 Token Bucket 요청 제한기 (프로세스 내)
+ *
+ * - userId → 버킷을 long 키 open addressing 테이블에 저장 (박싱/노드 객체 없음, 항목당 24byte)
+ * - 테이블을 stripes 개로 나누고 stripe 별 락 → 서로 다른 사용자 요청은 거의 경합하지 않음
+ * - 일정 시간 요청이 없던 버킷은 이미 가득 찬 상태와 같으므로 제거해도 동작이 같음 (idle eviction)
+ * - 전체 항목 수는 maxEntries 로 제한, stripe 가 가득 차면 idle → 오래된 순으로 제거
+ *
+ * 단일 인스턴스 기준 (인스턴스가 N대면 사용자별 허용량도 N배)
+ */
+@Component
+public class UserRateLimiter {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final double capacity;
+    private final double refillPerNano;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    public UserRateLimiter(@Value("${rate-limit.capacity:5}") int capacity,
+                           @Value("${rate-limit.refill-per-second:2}") double refillPerSecond,
+                           @Value("${rate-limit.idle-evict-seconds:60}") long idleEvictSeconds,
+                           @Value("${rate-limit.max-entries:500000}") int maxEntries,
+                           @Value("${rate-limit.stripes:64}") int stripeCount) {
+        this(capacity, refillPerSecond, idleEvictSeconds, maxEntries, stripeCount, System::nanoTime);
+    }
+
+    UserRateLimiter(int capacity, double refillPerSecond, long idleEvictSeconds,
+                    int maxEntries, int stripeCount, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("rate-limit 설정이 올바르지 않습니다");
+        }
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);  // 2의 거듭제곱으로 올림
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        int entriesPerStripe = Math.max(1, maxEntries / count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(entriesPerStripe);
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        // 빈 버킷이 가득 차는 시간보다 짧으면 제거가 허용량을 늘리므로 최소값 보장
+        long refillFullNanos = (long) Math.ceil(capacity / this.refillPerNano);
+        this.idleTimeoutNanos = Math.max(TimeUnit.SECONDS.toNanos(idleEvictSeconds), refillFullNanos);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(long userId) {
+        long hash = mix(userId);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];  // 상위 비트: stripe, 하위 비트: 슬롯
+        synchronized (stripe) {
+            return stripe.tryAcquire(userId, hash, now());
+        }
+    }
+
+    /**
+     * 현재 추적 중인 사용자 수
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 주기적으로 idle 버킷 제거
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:30000}")
+    public void evictIdle() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.rebuild(now() - idleTimeoutNanos);
+            }
+        }
+    }
+
+    private long now() {
+        long now = nanoClock.getAsLong();
+        return now == 0 ? 1 : now;  // 0은 빈 슬롯 표시
+    }
+
+    /**
+     * 연속된 userId 가 한 stripe/구간에 몰리지 않도록 섞음 (MurmurHash3 fmix64)
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /**
+     * stripe 하나 = linear probing 테이블 1개 (호출자가 stripe 락 보유)
+     */
+    private final class Stripe {
+        private final int maxSize;
+        private final long[] keys;
+        private final double[] tokens;
+        private final long[] lastSeen;      // 마지막 충전 시각 (0 = 빈 슬롯)
+        private final int mask;
+        private int size;
+
+        private Stripe(int maxSize) {
+            this.maxSize = maxSize;
+            // 적재율 0.75 이하 유지
+            int tableSize = Integer.highestOneBit(Math.max(2, maxSize * 4 / 3) - 1) << 1;
+            this.keys = new long[tableSize];
+            this.tokens = new double[tableSize];
+            this.lastSeen = new long[tableSize];
+            this.mask = tableSize - 1;
+        }
+
+        private boolean tryAcquire(long userId, long hash, long now) {
+            int slot = find(userId, hash);
+            if (lastSeen[slot] == 0) {
+                if (size >= maxSize) {
+                    makeRoom(now);
+                    slot = find(userId, hash);
+                }
+                keys[slot] = userId;
+                tokens[slot] = capacity;
+                lastSeen[slot] = now;
+                size++;
+            } else {
+                double refilled = tokens[slot] + (now - lastSeen[slot]) * refillPerNano;
+                tokens[slot] = Math.min(capacity, refilled);
+                lastSeen[slot] = now;
+            }
+
+            if (tokens[slot] >= 1) {
+                tokens[slot] -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * userId 가 있는 슬롯, 없으면 들어갈 빈 슬롯
+         */
+        private int find(long userId, long hash) {
+            int slot = (int) hash & mask;
+            while (lastSeen[slot] != 0 && keys[slot] != userId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void makeRoom(long now) {
+            rebuild(now - idleTimeoutNanos);
+            if (size >= maxSize) {
+                // idle 버킷이 없으면 오래된 1/4 제거 (제거된 사용자는 가득 찬 버킷으로 다시 시작)
+                long[] stamps = new long[size];
+                int n = 0;
+                for (long stamp : lastSeen) {
+                    if (stamp != 0) {
+                        stamps[n++] = stamp;
+                    }
+                }
+                Arrays.sort(stamps);
+                rebuild(stamps[size / 4] + 1);
+            }
+        }
+
+        /**
+         * lastSeen 이 기준 시각 이전인 항목을 빼고 다시 적재 (linear probing 삭제를 한 번에 처리)
+         */
+        private void rebuild(long evictBefore) {
+            long[] oldKeys = keys.clone();
+            double[] oldTokens = tokens.clone();
+            long[] oldLastSeen = lastSeen.clone();
+            Arrays.fill(lastSeen, 0);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldLastSeen[i] != 0 && oldLastSeen[i] >= evictBefore) {
+                    int slot = find(oldKeys[i], mix(oldKeys[i]));
+                    keys[slot] = oldKeys[i];
+                    tokens[slot] = oldTokens[i];
+                    lastSeen[slot] = oldLastSeen[i];
+                    size++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.platform.common.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 1회 호출당 SQL 실행 예산
+ *
+ * 예산을 넘거나 같은 SQL이 반복되면 (N+1 의심) 경고 로그를 남긴다.
+ * 호출을 막지는 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SqlBudget {
+
+    /**
+     * 허용 SQL 수
+     */
+    int maxStatements();
+
+    /**
+     * 같은 SQL(파라미터 제외) 허용 반복 수, 0 이하면 sql-budget.repeat-threshold 사용
+     */
+    int maxRepeats() default 0;
+}
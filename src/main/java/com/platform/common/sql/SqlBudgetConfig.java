@@ -0,0 +1,45 @@
+package com.platform.common.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL 실행 집계 설정
+ *
+ * - Hibernate StatementInspector / SessionEventListener 등록 (구간이 열려 있을 때만 기록)
+ * - {@link SqlBudget} 메서드 AOP (트랜잭션 바깥에서 감싸 커밋 시 flush 까지 포함)
+ *
+ * JdbcTemplate 으로 직접 실행하는 SQL (일괄 발급 등)은 Hibernate 를 거치지 않아 집계되지 않는다.
+ */
+@Configuration
+public class SqlBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlBudgetHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = "sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+    public static Advisor sqlBudgetAdvisor(@Value("${sql-budget.repeat-threshold:5}") int repeatThreshold) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SqlBudget.class),
+                new SqlBudgetInterceptor(repeatThreshold));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
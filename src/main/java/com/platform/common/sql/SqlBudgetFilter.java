@@ -0,0 +1,59 @@
+package com.platform.common.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * API 요청 1건당 SQL 실행 수 집계
+ *
+ * 요청 예산을 넘거나 같은 SQL 이 반복되면 (N+1 의심) 경고 로그를 남긴다.
+ * 요청 스레드에서 실행된 SQL 만 집계 (비동기 처리분 제외)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int repeatThreshold;
+
+    public SqlBudgetFilter(@Value("${sql-budget.enabled:true}") boolean enabled,
+                           @Value("${sql-budget.request-max-statements:20}") int maxStatements,
+                           @Value("${sql-budget.repeat-threshold:5}") int repeatThreshold) {
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlScope scope = SqlStatementRecorder.open(request.getMethod() + " " + request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+
+            List<String> violations = scope.violations(maxStatements, repeatThreshold);
+            if (!violations.isEmpty()) {
+                log.warn("SQL 예산 초과 - {} {}", scope, violations);
+            } else if (log.isDebugEnabled()) {
+                log.debug("SQL 집계 - {}", scope);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.platform.common.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * {@link SqlBudget} 메서드의 SQL 수 집계 후 예산 초과 시 경고
+ */
+@Slf4j
+class SqlBudgetInterceptor implements MethodInterceptor {
+
+    private final int defaultRepeatThreshold;
+
+    SqlBudgetInterceptor(int defaultRepeatThreshold) {
+        this.defaultRepeatThreshold = defaultRepeatThreshold;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() == null ? null : AopUtils.getTargetClass(invocation.getThis());
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(method, SqlBudget.class);
+        if (budget == null) {
+            return invocation.proceed();
+        }
+
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        try (SqlScope scope = SqlStatementRecorder.open(name)) {
+            Object result = invocation.proceed();
+            int repeatThreshold = budget.maxRepeats() > 0 ? budget.maxRepeats() : defaultRepeatThreshold;
+            List<String> violations = scope.violations(budget.maxStatements(), repeatThreshold);
+            if (!violations.isEmpty()) {
+                log.warn("SQL 예산 초과 - {} {}", scope, violations);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.platform.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 현재 스레드의 집계 구간에 기록 (SQL 은 변경하지 않음)
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementRecorder.recordStatement(sql);
+        return sql;
+    }
+}
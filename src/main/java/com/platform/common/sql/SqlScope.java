@@ -0,0 +1,116 @@
+package com.platform.common.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 한 구간(HTTP 요청, 서비스 메서드, 테스트)의 SQL 실행 기록
+ *
+ * 같은 스레드에서 열린 구간이 중첩되면 바깥 구간에도 함께 집계된다.
+ * 반드시 연 스레드에서 닫는다 (try-with-resources).
+ */
+public class SqlScope implements AutoCloseable {
+
+    /** 구간당 구분해서 세는 SQL 종류 상한 (초과분은 하나로 묶음) */
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+    private static final String OTHERS = "<기타>";
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String name;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+
+    SqlScope(String name) {
+        this.name = name;
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        String key = normalize(sql);
+        if (!statements.containsKey(key) && statements.size() >= MAX_DISTINCT_STATEMENTS) {
+            key = OTHERS;
+        }
+        statements.merge(key, 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcTimeMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 파라미터를 제외한 SQL 별 실행 횟수 (처음 실행된 순서)
+     */
+    public Map<String, Integer> getStatements() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(statements));
+    }
+
+    /**
+     * threshold 번 이상 반복된 SQL (N+1 의심)
+     */
+    public List<String> findRepeated(int threshold) {
+        List<String> repeated = new ArrayList<>();
+        statements.forEach((sql, count) -> {
+            if (count >= threshold && !OTHERS.equals(sql)) {
+                repeated.add(count + "회: " + sql);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * 예산 초과/반복 SQL 설명 (문제 없으면 빈 목록)
+     */
+    public List<String> violations(int maxStatements, int repeatThreshold) {
+        List<String> violations = new ArrayList<>();
+        if (maxStatements >= 0 && statementCount > maxStatements) {
+            violations.add("SQL " + statementCount + "건 (예산 " + maxStatements + "건)");
+        }
+        if (repeatThreshold > 0) {
+            findRepeated(repeatThreshold).forEach(sql -> violations.add("반복 SQL " + sql));
+        }
+        return violations;
+    }
+
+    @Override
+    public void close() {
+        SqlStatementRecorder.close(this);
+    }
+
+    @Override
+    public String toString() {
+        return name + " [SQL " + statementCount + "건, JDBC " + getJdbcTimeMillis() + "ms, 전체 " + getElapsedMillis() + "ms]";
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING.matcher(sql).replaceAll("?");
+        normalized = NUMBER.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?..)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
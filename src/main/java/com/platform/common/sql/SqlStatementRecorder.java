@@ -0,0 +1,61 @@
+package com.platform.common.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드별 SQL 집계 구간 관리
+ *
+ * Hibernate 가 직접 생성하는 StatementInspector / SessionEventListener 에서 접근해야 하므로
+ * 빈이 아닌 static ThreadLocal 로 둔다. 열린 구간이 없으면 아무것도 기록하지 않는다.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Deque<SqlScope>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    /**
+     * 현재 스레드에 집계 구간 시작
+     */
+    public static SqlScope open(String name) {
+        Deque<SqlScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        SqlScope scope = new SqlScope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    static void close(SqlScope scope) {
+        Deque<SqlScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static void recordStatement(String sql) {
+        Deque<SqlScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (SqlScope scope : scopes) {
+                scope.recordStatement(sql);
+            }
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        Deque<SqlScope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (SqlScope scope : scopes) {
+                scope.recordJdbcTime(nanos);
+            }
+        }
+    }
+}
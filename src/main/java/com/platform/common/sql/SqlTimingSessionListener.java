@@ -0,0 +1,32 @@
+package com.platform.common.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시간 집계 (세션마다 Hibernate 가 새로 생성, 세션은 한 스레드에서만 사용)
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementRecorder.recordJdbcTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementRecorder.recordJdbcTime(System.nanoTime() - batchStart);
+    }
+}
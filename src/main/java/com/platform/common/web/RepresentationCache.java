@@ -0,0 +1,154 @@
+package com.platform.common.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회되고 드물게 바뀌는 목록 응답의 직렬화 결과 캐시
+ *
+ * 데이터 버전이 같으면 JSON 바이트(필요 시 gzip 바이트)를 그대로 재사용하고,
+ * If-None-Match 가 현재 ETag 와 같으면 목록을 만들지 않고 304 로 응답한다.
+ *
+ * 버전은 목록보다 먼저 읽는다. 사이에 데이터가 바뀌면 더 새로운 본문이 이전 ETag 로 저장될 뿐
+ * 오래된 본문이 새 ETag 로 나가지는 않는다.
+ */
+@Component
+public class RepresentationCache {
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Map<String, Representation> representations = new ConcurrentHashMap<>();
+
+    public RepresentationCache(ObjectMapper objectMapper,
+                               @Value("${representation-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * @param key     캐시 키 (엔드포인트당 1개)
+     * @param version 현재 데이터 버전
+     * @param body    버전이 바뀌었을 때만 호출되는 응답 본문 생성
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request, String key, Object version, Supplier<?> body) {
+        String identityEtag = etag(key, version, false);
+        String gzipEtag = etag(key, version, true);
+        boolean gzip = acceptsGzip(request);
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, identityEtag, gzipEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(headers(gzip ? gzipEtag : identityEtag))
+                    .build();
+        }
+
+        Representation representation = representations.get(key);
+        if (representation == null || !representation.etag().equals(identityEtag)) {
+            representation = serialize(identityEtag, gzipEtag, body.get());
+            representations.put(key, representation);
+        }
+
+        if (gzip && representation.gzipBytes() != null) {
+            return ResponseEntity.ok()
+                    .headers(headers(representation.gzipEtag()))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(representation.gzipBytes());
+        }
+        return ResponseEntity.ok()
+                .headers(headers(representation.etag()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(representation.bytes());
+    }
+
+    private Representation serialize(String etag, String gzipEtag, Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            byte[] gzipBytes = gzipMinBytes >= 0 && bytes.length >= gzipMinBytes ? gzip(bytes) : null;
+            return new Representation(etag, gzipEtag, bytes, gzipBytes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static HttpHeaders headers(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        // 캐시는 하되 매번 ETag 로 재검증
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        return headers;
+    }
+
+    /**
+     * 인코딩별로 표현이 다르므로 strong ETag 도 구분한다
+     */
+    private static String etag(String key, Object version, boolean gzip) {
+        return "\"" + key + "-" + version + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * If-None-Match 는 약한 비교 (W/ 접두사 무시)
+     */
+    static boolean matches(String ifNoneMatch, String... etags) {
+        for (String token : ifNoneMatch.split(",")) {
+            String candidate = token.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            for (String etag : etags) {
+                if (etag.equals(candidate)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private record Representation(String etag, String gzipEtag, byte[] bytes, byte[] gzipBytes) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.platform.stock.controller;
+
+import com.platform.stock.dto.CheckoutRequest;
+import com.platform.stock.dto.OrderResponse;
+import com.platform.stock.service.CheckoutService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "결제 API", description = "주문 + 쿠폰 사용 일괄 처리")
+@RestController
+@RequestMapping("/api/checkout")
+@RequiredArgsConstructor
+public class CheckoutController {
+
+    private final CheckoutService checkoutService;
+
+    @Operation(summary = "주문 결제 (재고 차감 + 쿠폰 사용)", description = "한 트랜잭션에서 재고 차감, 쿠폰 사용, 주문 저장을 처리")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public OrderResponse checkout(@Valid @RequestBody CheckoutRequest request) {
+        return checkoutService.checkout(request);
+    }
+}
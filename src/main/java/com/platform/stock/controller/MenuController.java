@@ -1,14 +1,19 @@
 package com.platform.stock.controller;
 
+import com.platform.common.web.RepresentationCache;
 import com.platform.stock.dto.MenuResponse;
 import com.platform.stock.service.MenuService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "메뉴 API", description = "메뉴 조회")
 @RestController
 @RequestMapping("/api/menus")
@@ -16,6 +21,7 @@ import java.util.List;
 public class MenuController {
 
     private final MenuService menuService;
+    private final RepresentationCache representationCache;
 
     @Operation(summary = "메뉴 상세 조회")
     @GetMapping("/{menuId}")
@@ -23,9 +29,11 @@ public class MenuController {
         return menuService.getMenu(menuId);
     }
 
-    @Operation(summary = "전체 메뉴 조회")
+    @Operation(summary = "전체 메뉴 조회", description = "ETag 지원 (If-None-Match 일치 시 304)")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+        array = @ArraySchema(schema = @Schema(implementation = MenuResponse.class))))
     @GetMapping
-    public List<MenuResponse> getAllMenus() {
-        return menuService.getAllMenus();
+    public ResponseEntity<byte[]> getAllMenus(HttpServletRequest request) {
+        return representationCache.respond(request, "menus", menuService.getCatalogVersion(), menuService::getAllMenus);
     }
 }
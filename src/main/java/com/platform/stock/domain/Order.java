@@ -25,7 +25,11 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items = new ArrayList<>();
 
-    private Integer totalPrice;
+    private Integer totalPrice;     // 주문 금액 (할인 전)
+
+    private Integer discountAmount; // 쿠폰 할인 금액
+
+    private Integer paymentPrice;   // 결제 금액 (할인 후)
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
@@ -37,6 +41,8 @@ public class Order {
         this.userId = userId;
         this.items = items;
         this.totalPrice = calculateTotalPrice();
+        this.discountAmount = 0;
+        this.paymentPrice = this.totalPrice;
         this.status = OrderStatus.ORDERED;
         this.orderedAt = LocalDateTime.now();
 
@@ -54,5 +60,17 @@ public class Order {
         this.items.add(item);
         item.setOrder(this);
         this.totalPrice = calculateTotalPrice();
+        this.paymentPrice = this.totalPrice - this.discountAmount;
+    }
+
+    /**
+     * 쿠폰 할인 적용
+     */
+    public void applyDiscount(int discountAmount) {
+        if (discountAmount < 0 || discountAmount > this.totalPrice) {
+            throw new IllegalArgumentException("할인 금액이 올바르지 않습니다: " + discountAmount);
+        }
+        this.discountAmount = discountAmount;
+        this.paymentPrice = this.totalPrice - discountAmount;
     }
 }
@@ -0,0 +1,27 @@
+package com.platform.stock.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutRequest {
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private Long userId;
+
+    @NotEmpty(message = "주문 항목은 1개 이상이어야 합니다")
+    @Valid
+    private List<CreateOrderRequest.OrderItemRequest> items;
+
+    private List<Long> couponIds;  // 적용할 쿠폰 (선택)
+}
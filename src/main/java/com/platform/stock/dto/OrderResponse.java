@@ -20,6 +20,8 @@ public class OrderResponse {
     private Long userId;
     private OrderStatus status;
     private Integer totalPrice;
+    private Integer discountAmount;
+    private Integer paymentPrice;
     private List<OrderItemResponse> items;
     private LocalDateTime orderedAt;
 
@@ -29,6 +31,8 @@ public class OrderResponse {
             .userId(order.getUserId())
             .status(order.getStatus())
             .totalPrice(order.getTotalPrice())
+            .discountAmount(order.getDiscountAmount())
+            .paymentPrice(order.getPaymentPrice())
             .items(order.getItems().stream()
                 .map(OrderItemResponse::from)
                 .collect(Collectors.toList()))
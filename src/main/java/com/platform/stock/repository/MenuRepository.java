@@ -4,6 +4,7 @@ import com.platform.stock.domain.Menu;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +29,28 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     @Query("SELECT m FROM Menu m WHERE m.id = :id")
     Optional<Menu> findByIdWithOptimisticLock(@Param("id") Long id);
 
+    /**
+     * 조건부 재고 차감 (UPDATE 1회)
+     * 재고가 충분할 때만 차감하고 반영된 row 수를 반환 (0이면 재고 부족)
+     * version도 함께 올려 Optimistic Lock 경로와 충돌을 감지할 수 있게 함
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.stock = m.stock - :quantity, m.version = m.version + 1 " +
+            "WHERE m.id = :id AND m.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 메뉴 목록 버전 (집계 쿼리 1회)
+     * 재고/가격 변경은 version 을, 추가/삭제는 count 와 max(id) 를 바꾼다
+     */
+    @Query("SELECT count(m) AS count, coalesce(sum(m.version), 0) AS versionSum, coalesce(max(m.id), 0) AS maxId FROM Menu m")
+    CatalogVersion findCatalogVersion();
+
+    interface CatalogVersion {
+        Long getCount();
+
+        Long getVersionSum();
+
+        Long getMaxId();
+    }
 }
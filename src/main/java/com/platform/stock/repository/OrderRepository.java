@@ -1,10 +1,13 @@
 package com.platform.stock.repository;
 
 import com.platform.stock.domain.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+    // 주문 항목까지 한 번에 조회 (주문 수만큼 항목 조회가 반복되지 않도록)
+    @EntityGraph(attributePaths = "items")
     List<Order> findByUserId(Long userId);
 }
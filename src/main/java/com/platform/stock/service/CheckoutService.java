@@ -0,0 +1,139 @@
+package com.platform.stock.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponUsedEvent;
+import com.api.coupon.domain.Coupons;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.repository.UserCouponRepository;
+import com.platform.stock.domain.Menu;
+import com.platform.stock.domain.Order;
+import com.platform.stock.domain.OrderItem;
+import com.platform.stock.dto.CheckoutRequest;
+import com.platform.stock.dto.CreateOrderRequest;
+import com.platform.stock.dto.OrderResponse;
+import com.platform.stock.repository.MenuRepository;
+import com.platform.stock.repository.OrderRepository;
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.jfr.LockAcquireEvent;
+import com.platform.common.metrics.OutcomeTimed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주문 + 쿠폰 사용을 한 트랜잭션으로 처리 (Checkout)
+ *
+ * 주문 API와 할인 계산 API를 따로 부르면 트랜잭션이 둘로 나뉘어
+ * 그 사이에 같은 쿠폰이 다른 주문에 또 쓰일 수 있다.
+ *
+ * 처리 순서:
+ * 1. 메뉴/쿠폰 일괄 조회 (락 없음) 후 금액/할인 검증
+ * 2. 쿠폰 사용 처리 - 조건부 UPDATE 1회 (미사용 + 본인 보유분만)
+ * 3. 주문 저장
+ * 4. 재고 차감 - 메뉴별 조건부 UPDATE (SELECT FOR UPDATE 없음)
+ *
+ * 인기 메뉴 row 락은 재고 차감부터 커밋까지만 잡히도록 재고 UPDATE를 마지막에 둔다.
+ * 메뉴는 ID 순으로 차감해 주문 간 락 순서를 고정 (데드락 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class CheckoutService {
+
+    private final OrderRepository orderRepository;
+    private final MenuRepository menuRepository;
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @OutcomeTimed(value = "orders.create", strategy = "checkout")
+    @Transactional
+    public OrderResponse checkout(CheckoutRequest request) {
+        // 1. 메뉴별 수량 합산 (메뉴 ID 순)
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CreateOrderRequest.OrderItemRequest itemRequest : request.getItems()) {
+            itemRequest.validate();
+            quantities.merge(itemRequest.getMenuId(), itemRequest.getQuantity(), Integer::sum);
+        }
+
+        // 2. 메뉴 일괄 조회 (쿼리 1회)
+        Map<Long, Menu> menus = new HashMap<>();
+        for (Menu menu : menuRepository.findAllById(quantities.keySet())) {
+            menus.put(menu.getId(), menu);
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>(request.getItems().size());
+        for (CreateOrderRequest.OrderItemRequest itemRequest : request.getItems()) {
+            Menu menu = menus.get(itemRequest.getMenuId());
+            if (menu == null) {
+                throw new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemRequest.getMenuId());
+            }
+            orderItems.add(OrderItem.builder()
+                .menuId(menu.getId())
+                .menuName(menu.getName())
+                .quantity(itemRequest.getQuantity())
+                .price(menu.getPrice())
+                .build());
+        }
+
+        Order order = Order.builder()
+            .userId(request.getUserId())
+            .items(orderItems)
+            .build();
+
+        // 3. 쿠폰 할인 적용 + 사용 처리
+        List<Long> couponIds = request.getCouponIds() == null ? List.of() : request.getCouponIds();
+        if (!couponIds.isEmpty()) {
+            useCoupons(request.getUserId(), couponIds, order);
+        }
+
+        // 4. 주문 저장
+        Order savedOrder = orderRepository.save(order);
+
+        // 5. 재고 차감 - 재고가 부족하면 0건 반영 → 전체 롤백
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            LockAcquireEvent lockEvent = ContentionEvents.beginLockAcquire("menu", entry.getKey(), ContentionEvents.CONDITIONAL_UPDATE);
+            int decreased = menuRepository.decreaseStock(entry.getKey(), entry.getValue());
+            ContentionEvents.endLockAcquire(lockEvent, decreased > 0);
+            if (decreased == 0) {
+                ContentionEvents.outOfStock("menu", entry.getKey(), entry.getValue(), -1);
+                throw new IllegalStateException("재고가 부족합니다. (메뉴: " + menus.get(entry.getKey()).getName() + ")");
+            }
+        }
+
+        if (!couponIds.isEmpty()) {
+            eventPublisher.publishEvent(new CouponUsedEvent(request.getUserId(), List.copyOf(couponIds)));
+        }
+
+        return OrderResponse.from(savedOrder);
+    }
+
+    private void useCoupons(Long userId, List<Long> couponIds, Order order) {
+        if (new HashSet<>(couponIds).size() != couponIds.size()) {
+            throw new IllegalArgumentException("같은 쿠폰을 중복 적용할 수 없습니다");
+        }
+
+        // 쿠폰 일괄 조회 (쿼리 1회) 후 기간/최소 주문 금액 검증 + 할인 계산
+        List<Coupon> coupons = couponRepository.findAllById(couponIds);
+        if (coupons.size() != couponIds.size()) {
+            throw new IllegalArgumentException("쿠폰이 존재하지 않습니다.");
+        }
+        long discountAmount = new Coupons(coupons).calculateTotalDiscount(order.getTotalPrice());
+        order.applyDiscount((int) discountAmount);
+
+        // 보유 여부와 사용 여부는 조건부 UPDATE 한 번으로 확인
+        // 반영 건수가 모자라면 미보유 또는 이미 사용된 쿠폰 (동시 사용 포함)
+        int used = userCouponRepository.useCoupons(userId, couponIds, LocalDateTime.now());
+        if (used != couponIds.size()) {
+            throw new IllegalStateException("보유하지 않았거나 이미 사용된 쿠폰입니다");
+        }
+    }
+}
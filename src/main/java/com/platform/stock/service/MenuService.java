@@ -22,6 +22,16 @@ public class MenuService {
         return MenuResponse.from(menu);
     }
 
+    /**
+     * 전체 메뉴 목록의 버전 (ETag 용, 목록 조회/직렬화 없이 집계 쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public String getCatalogVersion() {
+        MenuRepository.CatalogVersion version = menuRepository.findCatalogVersion();
+        return Long.toHexString(version.getCount()) + '.' + Long.toHexString(version.getVersionSum())
+            + '.' + Long.toHexString(version.getMaxId());
+    }
+
     @Transactional(readOnly = true)
     public List<MenuResponse> getAllMenus() {
         return menuRepository.findAll().stream()
@@ -7,6 +7,10 @@ import com.platform.stock.dto.CreateOrderRequest;
 import com.platform.stock.dto.OrderResponse;
 import com.platform.stock.repository.MenuRepository;
 import com.platform.stock.repository.OrderRepository;
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.metrics.ContentionMetrics;
+import com.platform.common.metrics.OutcomeTimed;
+import com.platform.common.sql.SqlBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +28,7 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
+    private final ContentionMetrics contentionMetrics;
 
     /**
      * 동시성 처리 없는 주문 생성 - 문제가 있는 코드!
@@ -31,6 +36,7 @@ public class OrderService {
      * @Transactional 제거 → 동시성 문제를 명확하게 재현하기 위함
      * @Transactional 없으면 즉시 커밋되어 락이 풀려버림
      */
+    @OutcomeTimed(value = "orders.create", strategy = "basic")
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         List<OrderItem> orderItems = new ArrayList<>();
@@ -42,7 +48,8 @@ public class OrderService {
             // 메뉴 조회 as-is
 /*            Menu menu = menuRepository.findById(itemRequest.getMenuId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemRequest.getMenuId()));*/
-            Menu menu = menuRepository.findByIdWithPessimisticLock(itemRequest.getMenuId()).orElseThrow(
+            Menu menu = contentionMetrics.timeLockAcquire("menu", itemRequest.getMenuId(),
+                    () -> menuRepository.findByIdWithPessimisticLock(itemRequest.getMenuId())).orElseThrow(
                     () -> new IllegalArgumentException("존재하지 않는 메뉴입니다" + itemRequest.getMenuId()));
 
             // 동시성 문제를 명확히 재현하기 위한 의도적인 지연
@@ -54,6 +61,9 @@ public class OrderService {
             }
 
             // 재고 차감 (동시성 문제 발생 지점!)
+            if (menu.getStock() < itemRequest.getQuantity()) {
+                ContentionEvents.outOfStock("menu", menu.getId(), itemRequest.getQuantity(), menu.getStock());
+            }
             menu.decreaseStock(itemRequest.getQuantity());
 
             // 주문 항목 생성
@@ -85,6 +95,7 @@ public class OrderService {
         return OrderResponse.from(order);
     }
 
+    @SqlBudget(maxStatements = 1)
     @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByUserId(Long userId) {
         return orderRepository.findByUserId(userId).stream()
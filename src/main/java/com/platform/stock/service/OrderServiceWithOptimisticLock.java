@@ -1,5 +1,8 @@
 package com.platform.stock.service;
 
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.metrics.ContentionMetrics;
+import com.platform.common.metrics.OutcomeTimed;
 import com.platform.stock.domain.Menu;
 import com.platform.stock.domain.Order;
 import com.platform.stock.domain.OrderItem;
@@ -41,12 +44,14 @@ public class OrderServiceWithOptimisticLock {
 
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
+    private final ContentionMetrics contentionMetrics;
 
     private static final int MAX_RETRY = 3;
 
     /**
      * Optimistic Lock with Retry
      */
+    @OutcomeTimed(value = "orders.create", strategy = "optimistic")
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         int retryCount = 0;
@@ -56,15 +61,18 @@ public class OrderServiceWithOptimisticLock {
                 return attemptCreateOrder(request);
             } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
                 retryCount++;
+                ContentionEvents.optimisticConflict("menu", conflictIdentifier(e), retryCount);
                 log.warn("Optimistic Lock 충돌 발생. 재시도 {}/{}", retryCount, MAX_RETRY);
 
                 if (retryCount >= MAX_RETRY) {
+                    contentionMetrics.recordOptimisticExhausted("menu");
                     throw new IllegalStateException("주문 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
                 }
 
                 // 짧은 대기 후 재시도
+                contentionMetrics.recordOptimisticRetry("menu", retryCount);
                 try {
-                    Thread.sleep(50 * retryCount); // Exponential backoff
+                    ContentionEvents.backoff("menu", retryCount, 50L * retryCount); // Exponential backoff
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     throw new IllegalStateException("주문 처리가 중단되었습니다.", ie);
@@ -75,6 +83,10 @@ public class OrderServiceWithOptimisticLock {
         throw new IllegalStateException("주문 처리에 실패했습니다.");
     }
 
+    private static Object conflictIdentifier(RuntimeException e) {
+        return e instanceof ObjectOptimisticLockingFailureException failure ? failure.getIdentifier() : null;
+    }
+
     private OrderResponse attemptCreateOrder(CreateOrderRequest request) {
         List<OrderItem> orderItems = new ArrayList<>();
 
@@ -87,6 +99,9 @@ public class OrderServiceWithOptimisticLock {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemRequest.getMenuId()));
 
             // 재고 차감
+            if (menu.getStock() < itemRequest.getQuantity()) {
+                ContentionEvents.outOfStock("menu", menu.getId(), itemRequest.getQuantity(), menu.getStock());
+            }
             menu.decreaseStock(itemRequest.getQuantity());
 
             OrderItem orderItem = OrderItem.builder()
@@ -1,5 +1,8 @@
 package com.platform.stock.service;
 
+import com.platform.common.jfr.ContentionEvents;
+import com.platform.common.metrics.ContentionMetrics;
+import com.platform.common.metrics.OutcomeTimed;
 import com.platform.stock.domain.Menu;
 import com.platform.stock.domain.Order;
 import com.platform.stock.domain.OrderItem;
@@ -36,7 +39,9 @@ public class OrderServiceWithPessimisticLock {
 
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
+    private final ContentionMetrics contentionMetrics;
 
+    @OutcomeTimed(value = "orders.create", strategy = "pessimistic")
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         List<OrderItem> orderItems = new ArrayList<>();
@@ -46,10 +51,14 @@ public class OrderServiceWithPessimisticLock {
 
             // Pessimistic Lock으로 메뉴 조회 (SELECT ... FOR UPDATE)
             // 다른 트랜잭션은 이 row를 읽거나 수정할 수 없음 (대기)
-            Menu menu = menuRepository.findByIdWithPessimisticLock(itemRequest.getMenuId())
+            Menu menu = contentionMetrics.timeLockAcquire("menu", itemRequest.getMenuId(),
+                    () -> menuRepository.findByIdWithPessimisticLock(itemRequest.getMenuId()))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemRequest.getMenuId()));
 
             // 재고 차감 (Lock이 걸려있어 안전)
+            if (menu.getStock() < itemRequest.getQuantity()) {
+                ContentionEvents.outOfStock("menu", menu.getId(), itemRequest.getQuantity(), menu.getStock());
+            }
             menu.decreaseStock(itemRequest.getQuantity());
 
             OrderItem orderItem = OrderItem.builder()
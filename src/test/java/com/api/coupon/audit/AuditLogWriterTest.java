@@ -0,0 +1,163 @@
+package com.api.coupon.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditLogWriterTest {
+
+    private static final String KEY = "00112233445566778899aabbccddeeff";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("동시 기록 - 누락 없이 sequence 순서대로 기록되고 세그먼트가 교체됨")
+    void append_Concurrent_Rotate() throws Exception {
+        AuditLogWriter writer = newWriter();
+        writer.start();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long userBase = t * 1000L;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 250; i++) {
+                    writer.append(userBase + i, 1L, AuditOutcome.ISSUED);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writer.close();
+
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.ScanResult result = new AuditLogReader(KEY).scan(directory, records::add);
+
+        assertThat(result.valid()).isTrue();
+        assertThat(result.recordCount()).isEqualTo(1000);
+        assertThat(records.get(999).getSequence()).isEqualTo(1000);
+        assertThat(segments()).hasSize(10);   // 세그먼트당 100건
+    }
+
+    @Test
+    @DisplayName("재시작 - 마지막 레코드부터 sequence/체인을 이어서 기록")
+    void append_Recover() throws Exception {
+        AuditLogWriter writer = newWriter();
+        writer.start();
+        for (int i = 0; i < 150; i++) {
+            writer.append(i, 2L, AuditOutcome.ISSUED);
+        }
+        writer.close();
+
+        AuditLogWriter restarted = newWriter();
+        restarted.start();
+        restarted.append(7L, 2L, AuditOutcome.REDEEMED);
+        restarted.close();
+
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.ScanResult result = new AuditLogReader(KEY).scan(directory, records::add);
+
+        assertThat(result.valid()).isTrue();
+        assertThat(records).hasSize(151);
+        AuditRecord last = records.get(150);
+        assertThat(last.getSequence()).isEqualTo(151);
+        assertThat(AuditOutcome.fromCode(last.getOutcomeCode())).isEqualTo(AuditOutcome.REDEEMED);
+    }
+
+    @Test
+    @DisplayName("변조 감지 - 레코드 필드를 바꾸면 체인 검증 실패")
+    void scan_DetectTampering() throws Exception {
+        AuditLogWriter writer = newWriter();
+        writer.start();
+        for (int i = 0; i < 50; i++) {
+            writer.append(i, 3L, AuditOutcome.ISSUED);
+        }
+        writer.close();
+
+        // 10번째 레코드의 userId 변경
+        try (FileChannel channel = FileChannel.open(segments().get(0), StandardOpenOption.WRITE)) {
+            ByteBuffer userId = ByteBuffer.allocate(8).putLong(0, 999_999L);
+            channel.write(userId, AuditFormat.recordOffset(9) + 8);
+        }
+
+        AuditLogReader.ScanResult result = new AuditLogReader(KEY).scan(directory, record -> { });
+        assertThat(result.valid()).isFalse();
+        assertThat(result.recordCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("같은 디렉터리는 writer 하나만 사용")
+    void start_DirectoryLocked() {
+        AuditLogWriter writer = newWriter();
+        writer.start();
+        try {
+            assertThatThrownBy(() -> newWriter().start())
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("writer 중단 - ring 이 가득 차도 무한 대기하지 않고 예외")
+    void append_WriterStopped_Throws() throws IOException {
+        AuditLogWriter writer = newWriter();
+        writer.start();
+        Files.createFile(directory.resolve(AuditFormat.segmentFileName(1)));   // 세그먼트 교체 시 기록 실패 유도
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 1000; i++) {
+                writer.append(i, 1L, AuditOutcome.ISSUED);
+            }
+        }).isInstanceOf(IllegalStateException.class);
+
+        // 커밋 전 확인에서도 거절
+        assertThat(writer.isWritable()).isFalse();
+        assertThatThrownBy(writer::checkWritable).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("비활성화 - 디렉터리/키 없이 생성되고 항상 기록 가능")
+    void create_Disabled() {
+        AuditLogWriter writer = new AuditLogWriter(false, "", 64, 100, 10, "");
+        writer.start();
+
+        writer.append(1L, 1L, AuditOutcome.REJECTED);
+        assertThat(writer.isWritable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활성화 시 디렉터리/키 미지정이면 기동 실패")
+    void create_MissingDirOrKey() {
+        assertThatThrownBy(() -> new AuditLogWriter(true, "", 64, 100, 10, KEY))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AuditLogWriter(true, directory.toString(), 64, 100, 10, ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private AuditLogWriter newWriter() {
+        return new AuditLogWriter(true, directory.toString(), 64, 100, 10, KEY);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(AuditFormat::isSegmentFile).sorted().toList();
+        }
+    }
+}
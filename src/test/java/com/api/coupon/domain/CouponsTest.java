@@ -0,0 +1,119 @@
+package com.api.coupon.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 쿠폰 조합 도메인 테스트 (DB 없이)
+ */
+class CouponsTest {
+
+    private static final int MAX_COUPON_COUNT = 3;
+
+    @Test
+    @DisplayName("최대 할인 조합 - 모든 부분집합 완전 탐색 결과와 동일")
+    void selectBestCombination_MatchesBruteForce() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 500; round++) {
+            // given: 랜덤 쿠폰 1~12장, 랜덤 주문 금액
+            List<Coupon> owned = new ArrayList<>();
+            int couponCount = 1 + random.nextInt(12);
+            for (int i = 0; i < couponCount; i++) {
+                owned.add(randomCoupon((long) i, random));
+            }
+            int orderAmount = 5_000 + random.nextInt(100_000);
+
+            // when
+            Coupons best = new Coupons(owned).selectBestCombination(orderAmount, MAX_COUPON_COUNT);
+            DiscountResult result = best.calculateDiscount(orderAmount);
+
+            // then: 할인 금액은 완전 탐색 최적값과 같고, 쿠폰 수는 최소
+            int[] expected = bruteForce(owned, orderAmount);
+            assertThat(result.getTotalDiscount()).isEqualTo(expected[0]);
+            assertThat(result.getAppliedCoupons()).hasSize(expected[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 할인 조합 - 30장 보유 시 쿠폰별 할인 계산은 1회 (부분집합 탐색 없음)")
+    void selectBestCombination_30Coupons_ComputesEachDiscountOnce() {
+        // given
+        Random random = new Random(7);
+        List<Coupon> owned = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            owned.add(spy(randomCoupon((long) i, random)));
+        }
+
+        // when
+        Coupons best = new Coupons(owned).selectBestCombination(80_000, MAX_COUPON_COUNT);
+
+        // then: 조합 수(C(30, 3) = 4060)와 무관하게 쿠폰당 최대 1회
+        for (Coupon coupon : owned) {
+            verify(coupon, atMost(1)).calculateDiscount(anyInt());
+        }
+        assertThat(best.calculateDiscount(80_000).getAppliedCoupons()).hasSizeLessThanOrEqualTo(MAX_COUPON_COUNT);
+    }
+
+    /**
+     * @return {최대 할인 금액, 그때의 최소 쿠폰 수}
+     */
+    private int[] bruteForce(List<Coupon> owned, int orderAmount) {
+        int bestDiscount = 0;
+        int bestCount = 0;
+        for (int mask = 1; mask < (1 << owned.size()); mask++) {
+            if (Integer.bitCount(mask) > MAX_COUPON_COUNT) {
+                continue;
+            }
+            int discount = 0;
+            boolean applicable = true;
+            for (int i = 0; i < owned.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    Coupon coupon = owned.get(i);
+                    if (!coupon.isMinOrderAmount(orderAmount)) {
+                        applicable = false;
+                        break;
+                    }
+                    discount += coupon.calculateDiscount(orderAmount);
+                }
+            }
+            if (!applicable) {
+                continue;
+            }
+            discount = Math.min(discount, orderAmount);
+            int count = Integer.bitCount(mask);
+            if (discount > bestDiscount || (discount == bestDiscount && count < bestCount)) {
+                bestDiscount = discount;
+                bestCount = count;
+            }
+        }
+        return new int[]{bestDiscount, bestCount};
+    }
+
+    private Coupon randomCoupon(Long id, Random random) {
+        boolean fixed = random.nextBoolean();
+        return Coupon.builder()
+                .id(id)
+                .name("쿠폰 " + id)
+                .type(fixed ? CouponType.FIXED : CouponType.PERCENTAGE)
+                .discountValue(fixed ? 1_000 * (1 + random.nextInt(20)) : 5 + random.nextInt(30))
+                .minOrderAmount(5_000 * random.nextInt(10))
+                .maxDiscountAmount(fixed || random.nextBoolean() ? null : 1_000 * (1 + random.nextInt(10)))
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.api.coupon.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정수 할인 커널 속성 테스트
+ *
+ * 랜덤 입력에 대해 기존 double 계산 결과와 같은지 확인
+ */
+class DiscountKernelTest {
+
+    private static final int ROUNDS = 100_000;
+
+    @Test
+    @DisplayName("기존 double 계산과 동일 (int 오버플로가 없는 범위)")
+    void discount_MatchesLegacy() {
+        Random random = new Random(2025);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            CouponType type = random.nextBoolean() ? CouponType.FIXED : CouponType.PERCENTAGE;
+            int orderAmount = random.nextInt(10_000_001);
+            int discountValue = type == CouponType.FIXED ? random.nextInt(100_001) : random.nextInt(101);
+            Integer maxDiscountAmount = random.nextBoolean() ? null : random.nextInt(50_001);
+
+            long expected = legacyDiscount(type, orderAmount, discountValue, maxDiscountAmount);
+            long actual = DiscountKernel.discount(type, orderAmount, discountValue,
+                    maxDiscountAmount == null ? DiscountKernel.NO_LIMIT : maxDiscountAmount);
+
+            assertThat(actual)
+                    .as("type=%s, orderAmount=%d, discountValue=%d, max=%s", type, orderAmount, discountValue, maxDiscountAmount)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("반올림 방식별 결과가 BigDecimal 계산과 동일")
+    void percentage_RoundingModes() {
+        Random random = new Random(7);
+        RoundingMode[] modes = {RoundingMode.DOWN, RoundingMode.FLOOR, RoundingMode.UP, RoundingMode.CEILING,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN};
+
+        for (int i = 0; i < ROUNDS; i++) {
+            long orderAmount = random.nextInt(1_000_000_000);
+            long rate = random.nextInt(101);
+            RoundingMode mode = modes[random.nextInt(modes.length)];
+
+            long expected = BigDecimal.valueOf(orderAmount)
+                    .multiply(BigDecimal.valueOf(rate))
+                    .divide(BigDecimal.valueOf(100), 0, mode)
+                    .longValueExact();
+
+            assertThat(DiscountKernel.percentage(orderAmount, rate, mode)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("큰 주문 금액에서도 오버플로 없음")
+    void percentage_NoIntOverflow() {
+        // 30,000,000 * 100 은 int 범위를 넘음
+        assertThat(DiscountKernel.percentage(30_000_000L, 100, DiscountKernel.DEFAULT_ROUNDING))
+                .isEqualTo(30_000_000L);
+    }
+
+    @Test
+    @DisplayName("총 할인 금액 - 쿠폰별 내역 계산과 동일")
+    void calculateTotalDiscount_MatchesCalculateDiscount() {
+        Random random = new Random(11);
+
+        for (int round = 0; round < 1_000; round++) {
+            List<Coupon> couponList = new ArrayList<>();
+            int couponCount = 1 + random.nextInt(10);
+            for (int i = 0; i < couponCount; i++) {
+                boolean fixed = random.nextBoolean();
+                couponList.add(Coupon.builder()
+                        .id((long) i)
+                        .name("쿠폰 " + i)
+                        .type(fixed ? CouponType.FIXED : CouponType.PERCENTAGE)
+                        .discountValue(fixed ? random.nextInt(20_000) : random.nextInt(101))
+                        .minOrderAmount(0)
+                        .maxDiscountAmount(random.nextBoolean() ? null : random.nextInt(20_000))
+                        .startDate(LocalDateTime.now().minusDays(1))
+                        .endDate(LocalDateTime.now().plusDays(1))
+                        .totalQuantity(100)
+                        .issuedQuantity(0)
+                        .build());
+            }
+            Coupons coupons = new Coupons(couponList);
+            int orderAmount = random.nextInt(200_000);
+
+            assertThat(coupons.calculateTotalDiscount(orderAmount))
+                    .isEqualTo(coupons.calculateDiscount(orderAmount).getTotalDiscount().longValue());
+        }
+    }
+
+    /**
+     * 기존 Coupon.calculateDiscount 구현 (double 연산)
+     */
+    private long legacyDiscount(CouponType type, int orderAmount, int discountValue, Integer maxDiscountAmount) {
+        if (type == CouponType.FIXED) {
+            return Math.min(discountValue, orderAmount);
+        }
+        int discount = (int) (orderAmount * discountValue / 100.0);
+        if (maxDiscountAmount != null) {
+            discount = Math.min(discount, maxDiscountAmount);
+        }
+        return discount;
+    }
+}
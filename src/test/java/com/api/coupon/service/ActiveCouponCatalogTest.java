@@ -0,0 +1,91 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.repository.CouponRepository;
+import com.platform.common.datasource.ReadOnlyTransaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActiveCouponCatalogTest {
+
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final ReadOnlyTransaction readOnlyTransaction = mock(ReadOnlyTransaction.class);
+    private final ActiveCouponCatalog catalog = new ActiveCouponCatalog(couponRepository, readOnlyTransaction);
+
+    @Test
+    @DisplayName("무효화 후 재적재 중 - 다른 조회는 이전 스냅샷으로 바로 응답, DB 조회는 1회")
+    void getAvailableCoupons_ReloadInProgress_ServesPreviousSnapshot() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        when(readOnlyTransaction.executeOnPrimary(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(couponRepository.findByEndDateAfter(any())).thenReturn(List.of(coupon(1L, now)));
+        assertThat(catalog.getAvailableCoupons(now)).extracting(CouponResponse::getId).containsExactly(1L);
+
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(couponRepository.findByEndDateAfter(any())).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await();
+            return List.of(coupon(1L, now), coupon(2L, now));
+        });
+        catalog.invalidate();
+        CompletableFuture<List<CouponResponse>> reloading = CompletableFuture.supplyAsync(() -> catalog.getAvailableCoupons(now));
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // 적재 중에도 막히지 않음
+            assertThat(catalog.getAvailableCoupons(now)).extracting(CouponResponse::getId).containsExactly(1L);
+            assertThat(catalog.remainingQuantity(1L)).isEqualTo(10);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(reloading.get(5, TimeUnit.SECONDS)).extracting(CouponResponse::getId).containsExactly(1L, 2L);
+        verify(couponRepository, times(2)).findByEndDateAfter(any());
+    }
+
+    @Test
+    @DisplayName("적재 도중 무효화 - 다음 조회에서 다시 적재")
+    void getAvailableCoupons_InvalidatedDuringReload_ReloadsAgain() {
+        LocalDateTime now = LocalDateTime.now();
+        when(readOnlyTransaction.executeOnPrimary(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        when(couponRepository.findByEndDateAfter(any()))
+                .thenAnswer(invocation -> {
+                    catalog.invalidate();   // 조회 이후 커밋된 쿠폰 생성
+                    return List.of(coupon(1L, now));
+                })
+                .thenReturn(List.of(coupon(1L, now), coupon(2L, now)));
+
+        assertThat(catalog.getAvailableCoupons(now)).extracting(CouponResponse::getId).containsExactly(1L);
+        assertThat(catalog.getAvailableCoupons(now)).extracting(CouponResponse::getId).containsExactly(1L, 2L);
+    }
+
+    private static Coupon coupon(Long id, LocalDateTime now) {
+        return Coupon.builder()
+                .id(id)
+                .name("카탈로그 쿠폰 " + id)
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(now.minusDays(1))
+                .endDate(now.plusDays(1))
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .build();
+    }
+}
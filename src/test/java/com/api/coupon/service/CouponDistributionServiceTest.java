@@ -0,0 +1,158 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponDistributionJob;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.domain.DistributionStatus;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.dto.DistributionJobResponse;
+import com.api.coupon.repository.CouponDistributionJobRepository;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = com.platform.BackendPrepareApplication.class)
+class CouponDistributionServiceTest {
+
+    @Autowired
+    private CouponDistributionService couponDistributionService;
+
+    @Autowired
+    private CouponDistributionJobRepository jobRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    @DisplayName("일괄 지급 - 청크 단위 지급, 중복/기보유 사용자는 건너뜀")
+    void distribute_List() throws InterruptedException {
+        Long couponId = saveCoupon(10_000).getId();
+        // 기보유 5명
+        for (long userId = 50_000L; userId < 50_005L; userId++) {
+            userCouponRepository.save(UserCoupon.builder()
+                    .userId(userId).couponId(couponId).issuedAt(LocalDateTime.now()).used(false).build());
+        }
+        List<Long> userIds = new ArrayList<>(LongStream.range(50_000L, 52_500L).boxed().toList());
+        userIds.addAll(LongStream.range(51_000L, 51_010L).boxed().toList());   // 중복 10명
+
+        DistributionJobResponse created = couponDistributionService.create(couponId, userIds, 1000);
+        DistributionJobResponse result = awaitFinished(created.getJobId());
+
+        assertThat(result.getStatus()).isEqualTo(DistributionStatus.COMPLETED);
+        assertThat(result.getProcessedCount()).isEqualTo(2510);
+        assertThat(result.getIssuedCount()).isEqualTo(2495);
+        assertThat(result.getSkippedCount()).isEqualTo(15);
+        assertThat(result.getProgress()).isEqualTo(100.0);
+        // 직접 저장한 기보유 5건은 issuedQuantity에 포함되지 않음
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(2495);
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 업로드 파일, 잘못된 줄은 작업 생성 전에 거절")
+    void distribute_Upload() throws InterruptedException {
+        Long couponId = saveCoupon(100).getId();
+        String content = LongStream.range(53_000L, 53_050L)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining("\n", "", "\n\n"));
+
+        DistributionJobResponse created = couponDistributionService.create(
+                couponId, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), 7);
+        DistributionJobResponse result = awaitFinished(created.getJobId());
+
+        assertThat(result.getStatus()).isEqualTo(DistributionStatus.COMPLETED);
+        assertThat(result.getIssuedCount()).isEqualTo(50);
+
+        assertThatThrownBy(() -> couponDistributionService.create(
+                couponId, new ByteArrayInputStream("1\nabc\n".getBytes(StandardCharsets.UTF_8)), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째 줄");
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 수량이 부족하면 해당 청크는 롤백되고 작업 실패")
+    void distribute_SoldOut() throws InterruptedException {
+        Long couponId = saveCoupon(15).getId();
+
+        DistributionJobResponse created = couponDistributionService.create(
+                couponId, LongStream.range(54_000L, 54_030L).boxed().toList(), 10);
+        DistributionJobResponse result = awaitFinished(created.getJobId());
+
+        assertThat(result.getStatus()).isEqualTo(DistributionStatus.FAILED);
+        assertThat(result.getIssuedCount()).isEqualTo(10);
+        assertThat(result.getProcessedCount()).isEqualTo(10);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("일괄 지급 - 중단된 작업은 마지막 커밋 지점부터 재개")
+    void distribute_Resume() throws Exception {
+        Long couponId = saveCoupon(1000).getId();
+        Path source = Files.createTempFile("distribution", ".txt");
+        Files.write(source, LongStream.range(55_000L, 55_300L).mapToObj(Long::toString).toList());
+
+        // 200줄까지 커밋된 상태에서 중단된 작업
+        CouponDistributionJob job = CouponDistributionJob.builder()
+                .couponId(couponId)
+                .sourcePath(source.toString())
+                .chunkSize(50)
+                .totalCount(300L)
+                .build();
+        job.advance(200, 200, 0);
+        Long jobId = jobRepository.save(job).getId();
+
+        couponDistributionService.resumeRunningJobs();
+        DistributionJobResponse result = awaitFinished(jobId);
+
+        assertThat(result.getStatus()).isEqualTo(DistributionStatus.COMPLETED);
+        assertThat(result.getProcessedCount()).isEqualTo(300);
+        assertThat(result.getIssuedCount()).isEqualTo(300);
+        // 재개 후에는 남은 100줄만 지급
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(100);
+        assertThat(userCouponRepository.findByUserIdAndCouponIdAndUsed(55_199L, couponId, false)).isEmpty();
+        assertThat(userCouponRepository.findByUserIdAndCouponIdAndUsed(55_200L, couponId, false)).isPresent();
+        assertThat(source).doesNotExist();
+    }
+
+    private DistributionJobResponse awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            DistributionJobResponse job = couponDistributionService.getJob(jobId);
+            if (job.getStatus() != DistributionStatus.RUNNING) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("지급 작업이 끝나지 않았습니다: " + jobId);
+    }
+
+    private Coupon saveCoupon(int totalQuantity) {
+        return couponRepository.save(Coupon.builder()
+                .name("일괄 지급 쿠폰")
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 전략 벤치마크 (Pessimistic Lock vs 조건부 UPDATE)
+ *
+ * 기본 test 태스크에서는 제외 - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = com.platform.BackendPrepareApplication.class)
+class CouponIssueBenchmarkTest {
+
+    private static final int THREAD_COUNT = 64;
+    private static final int REQUEST_COUNT = 5000;
+    private static final int TOTAL_QUANTITY = 1000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private CouponServiceAnswer pessimisticLockService;
+
+    @Autowired
+    private CouponServiceWithConditionalUpdate conditionalUpdateService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    private interface IssueStrategy {
+        void issue(IssueCouponRequest request);
+    }
+
+    @Test
+    @DisplayName("발급 처리량/지연 비교 - Pessimistic Lock vs 조건부 UPDATE")
+    void compareIssueStrategies() throws InterruptedException {
+        // JIT/커넥션 풀 워밍업
+        run("warmup", pessimisticLockService::issueCoupon, 1_000_000L);
+        run("warmup", conditionalUpdateService::issueCoupon, 2_000_000L);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long userIdBase = 10_000_000L * (round + 1);
+            report(run("pessimistic", pessimisticLockService::issueCoupon, userIdBase));
+            report(run("conditional", conditionalUpdateService::issueCoupon, userIdBase + 5_000_000L));
+        }
+    }
+
+    private Result run(String name, IssueStrategy strategy, long userIdBase) throws InterruptedException {
+        Long couponId = couponRepository.save(Coupon.builder()
+                .name("벤치마크 쿠폰 - " + name)
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(TOTAL_QUANTITY)
+                .issuedQuantity(0)
+                .build()).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+        long[] latencies = new long[REQUEST_COUNT];
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            int index = i;
+            long userId = userIdBase + i;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    long start = System.nanoTime();
+                    try {
+                        strategy.issue(new IssueCouponRequest(userId, couponId));
+                        successCount.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // 발급 불가
+                    }
+                    latencies[index] = System.nanoTime() - start;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(TOTAL_QUANTITY);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(TOTAL_QUANTITY);
+
+        Arrays.sort(latencies);
+        return new Result(name, elapsed, latencies);
+    }
+
+    private void report(Result result) {
+        System.out.printf("%-12s total=%6d ms  throughput=%8.1f req/s  p50=%7.2f ms  p99=%7.2f ms  max=%7.2f ms%n",
+                result.name,
+                result.elapsedNanos / 1_000_000,
+                REQUEST_COUNT * 1e9 / result.elapsedNanos,
+                result.percentile(0.50) / 1e6,
+                result.percentile(0.99) / 1e6,
+                result.latencies[result.latencies.length - 1] / 1e6);
+    }
+
+    private record Result(String name, long elapsedNanos, long[] latencies) {
+        long percentile(double p) {
+            return latencies[(int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1)];
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouponIssueGateTest {
+
+    private final CouponRepository couponRepository = mock(CouponRepository.class);
+    private final CouponIssueGate gate = new CouponIssueGate(couponRepository);
+
+    @Test
+    @DisplayName("오픈 시점 동시 첫 요청 - DB 조회는 쿠폰당 1회")
+    void tryAcquire_ConcurrentFirstRequests_SeedOnce() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        CountDownLatch start = new CountDownLatch(1);
+        when(couponRepository.findById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(50);   // 조회 중에 다른 요청이 몰리도록
+            return Optional.of(coupon(now, 5));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return gate.tryAcquire(1L, now);
+                }));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    acquired++;
+                }
+            }
+            assertThat(acquired).isEqualTo(5);
+            verify(couponRepository, times(1)).findById(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("없는 쿠폰 - 매번 IllegalArgumentException, 이후 생성되면 다시 조회")
+    void tryAcquire_MissingCoupon_Retried() {
+        LocalDateTime now = LocalDateTime.now();
+        when(couponRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> gate.tryAcquire(2L, now)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gate.tryAcquire(2L, now)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(gate.remaining(2L)).isNull();
+
+        when(couponRepository.findById(2L)).thenReturn(Optional.of(coupon(now, 1)));
+        assertThat(gate.tryAcquire(2L, now)).isTrue();
+        assertThat(gate.remaining(2L)).isZero();
+    }
+
+    private static Coupon coupon(LocalDateTime now, int totalQuantity) {
+        return Coupon.builder()
+                .name("게이트 쿠폰")
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(now.minusDays(1))
+                .endDate(now.plusDays(1))
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .build();
+    }
+}
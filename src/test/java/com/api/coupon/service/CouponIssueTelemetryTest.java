@@ -0,0 +1,52 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.CouponIssuedEvent;
+import com.api.coupon.dto.CouponStatsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CouponIssueTelemetryTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final CouponIssueTelemetry telemetry =
+            new CouponIssueTelemetry(mock(ActiveCouponCatalog.class), 10, clock::get);
+
+    @Test
+    @DisplayName("초당 발급 수 - 최근 window 구간 평균, 지난 구간은 제외")
+    void slidingWindowRate() {
+        // 1000초 ~ 1009초: 초마다 20건 발급
+        for (int second = 0; second < 10; second++) {
+            for (int i = 0; i < 20; i++) {
+                telemetry.recordLockAcquired(1L, 1_000);
+                telemetry.onIssued(new CouponIssuedEvent(1L, (long) i));
+            }
+            clock.incrementAndGet();
+        }
+        CouponStatsResponse stats = telemetry.getStats(1L);
+        assertThat(stats.getIssuedPerSecond()).isEqualTo(20.0);
+        assertThat(stats.getAttemptsPerSecond()).isEqualTo(20.0);
+
+        // 5초 동안 발급 없음 → 절반만 window 에 남음
+        clock.addAndGet(5);
+        assertThat(telemetry.getStats(1L).getIssuedPerSecond()).isEqualTo(10.0);
+
+        // 1064초: 1000초와 같은 버킷 재사용 → 이전 값은 초기화
+        clock.addAndGet(49);
+        telemetry.onIssued(new CouponIssuedEvent(1L, 1L));
+        clock.incrementAndGet();
+        assertThat(telemetry.getStats(1L).getIssuedPerSecond()).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("기록이 없는 쿠폰은 0으로 응답")
+    void emptyStats() {
+        CouponStatsResponse stats = telemetry.getStats(99L);
+        assertThat(stats.getAttempts()).isZero();
+        assertThat(stats.getRemainingQuantity()).isNull();
+    }
+}
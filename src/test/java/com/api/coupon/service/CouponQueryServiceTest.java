@@ -0,0 +1,212 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.dto.BatchCalculateDiscountRequest;
+import com.api.coupon.dto.BatchCalculateDiscountResponse;
+import com.api.coupon.dto.CalculateDiscountRequest;
+import com.api.coupon.dto.CalculateDiscountResponse;
+import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.repository.UserCouponRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 조회 쿼리 수 테스트
+ *
+ * 쿠폰 개수와 무관하게 보유 여부 + 쿠폰 정보 조회가 쿼리 2회로 끝나는지 확인
+ * 쿠폰 지갑은 미스 시 1회, 히트 시 0회인지 확인
+ */
+@SpringBootTest(
+        classes = com.platform.BackendPrepareApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CouponQueryServiceTest {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponQuoteService couponQuoteService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Transactional
+    @DisplayName("쿠폰 5장 할인 계산 - 쿼리 2회")
+    void calculateDiscount_QueryCount() {
+        // given: 1000원 정액 쿠폰 5장 보유
+        Long userId = 30_000L;
+        List<Long> couponIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long couponId = saveActiveCoupon("쿼리 수 테스트 쿠폰 " + i).getId();
+            saveUserCoupon(userId, couponId);
+            couponIds.add(couponId);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        CalculateDiscountResponse response = couponService.calculateDiscount(
+                new CalculateDiscountRequest(userId, 50000, couponIds));
+
+        // then
+        System.out.println("실행 쿼리 수: " + statistics.getPrepareStatementCount());
+        assertThat(response.getTotalDiscount()).isEqualTo(5000);
+        assertThat(response.getAppliedCoupons())
+                .extracting(CalculateDiscountResponse.AppliedCoupon::getCouponId)
+                .containsExactlyElementsOf(couponIds);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("일괄 조회 후에도 쿠폰별 오류 메시지 유지")
+    void calculateDiscount_NotOwned_Message() {
+        // given: 두 장 중 한 장만 보유
+        Long userId = 30_001L;
+        Long ownedCouponId = saveActiveCoupon("보유 쿠폰").getId();
+        Long notOwnedCouponId = saveActiveCoupon("미보유 쿠폰").getId();
+        saveUserCoupon(userId, ownedCouponId);
+
+        // when & then
+        CalculateDiscountRequest request = new CalculateDiscountRequest(
+                userId, 50000, List.of(ownedCouponId, notOwnedCouponId));
+
+        assertThatThrownBy(() -> couponService.calculateDiscount(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("보유하지 않은 쿠폰입니다");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("쿠폰 지갑 조회 - 미스 1회, 히트 0회")
+    void getUserCoupons_QueryCount() {
+        // given: 쿠폰 3장 보유
+        Long userId = 30_002L;
+        for (int i = 0; i < 3; i++) {
+            saveUserCoupon(userId, saveActiveCoupon("지갑 쿠폰 " + i).getId());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when & then: 미스 - 조인 쿼리 1회
+        List<CouponResponse> first = couponService.getUserCoupons(userId);
+        assertThat(first).hasSize(3);
+        assertThat(first).allSatisfy(coupon -> assertThat(coupon.getRemainingQuantity())
+                .isEqualTo(coupon.getTotalQuantity() - coupon.getIssuedQuantity()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // when & then: 히트 - 쿼리 없음
+        statistics.clear();
+        List<CouponResponse> second = couponService.getUserCoupons(userId);
+        assertThat(second).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("일괄 견적 - 쿼리 2회, 요청 순서 유지, 견적별 실패")
+    void calculateDiscountBatch() {
+        // given: 쿠폰 2장 보유, 1장 미보유
+        Long userId = 30_003L;
+        Long first = saveActiveCoupon("견적 쿠폰 1").getId();
+        Long second = saveActiveCoupon("견적 쿠폰 2").getId();
+        Long notOwned = saveActiveCoupon("견적 미보유 쿠폰").getId();
+        saveUserCoupon(userId, first);
+        saveUserCoupon(userId, second);
+
+        BatchCalculateDiscountRequest request = new BatchCalculateDiscountRequest(userId, List.of(
+                new BatchCalculateDiscountRequest.Quote(20000, List.of(first)),
+                new BatchCalculateDiscountRequest.Quote(30000, List.of(first, notOwned)),
+                new BatchCalculateDiscountRequest.Quote(5000, List.of(second)),
+                new BatchCalculateDiscountRequest.Quote(40000, List.of(first, second))));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<BatchCalculateDiscountResponse.QuoteResult> results =
+                couponQuoteService.calculateBatch(request).getResults();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(results).extracting(BatchCalculateDiscountResponse.QuoteResult::getIndex)
+                .containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BatchCalculateDiscountResponse.QuoteResult::getSuccess)
+                .containsExactly(true, false, false, true);
+        assertThat(results.get(1).getErrorMessage()).contains("보유하지 않은 쿠폰입니다");
+        assertThat(results.get(2).getErrorMessage()).contains("최소 주문 금액을 만족하지 않습니다");
+        assertThat(results.get(3).getResult().getTotalDiscount()).isEqualTo(2000);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("할인 견적 일괄 계산 - null 쿠폰 ID 는 해당 견적만 실패")
+    void calculateBatch_NullCouponId() {
+        // given
+        Long userId = 30_004L;
+        Long owned = saveActiveCoupon("견적 쿠폰").getId();
+        saveUserCoupon(userId, owned);
+
+        BatchCalculateDiscountRequest request = new BatchCalculateDiscountRequest(userId, Arrays.asList(
+                new BatchCalculateDiscountRequest.Quote(20000, Arrays.asList(owned, null)),
+                null,
+                new BatchCalculateDiscountRequest.Quote(20000, List.of(owned))));
+
+        // when
+        List<BatchCalculateDiscountResponse.QuoteResult> results =
+                couponQuoteService.calculateBatch(request).getResults();
+
+        // then
+        assertThat(results).extracting(BatchCalculateDiscountResponse.QuoteResult::getSuccess)
+                .containsExactly(false, false, true);
+        assertThat(results.get(0).getErrorMessage()).contains("쿠폰 ID는 필수입니다");
+    }
+
+    private Coupon saveActiveCoupon(String name) {
+        return couponRepository.save(Coupon.builder()
+                .name(name)
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(10000)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .build());
+    }
+
+    private void saveUserCoupon(Long userId, Long couponId) {
+        userCouponRepository.save(UserCoupon.builder()
+                .userId(userId)
+                .couponId(couponId)
+                .issuedAt(LocalDateTime.now())
+                .used(false)
+                .build());
+    }
+}
@@ -1,18 +1,27 @@
 package com.api.coupon.service;
 
 import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.domain.WaitingStatus;
 import com.api.coupon.dto.CalculateDiscountRequest;
 import com.api.coupon.dto.CalculateDiscountResponse;
 import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.dto.CouponStatsResponse;
 import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.dto.WaitingTicketResponse;
 import com.api.coupon.repository.CouponRepository;
 import com.api.coupon.repository.UserCouponRepository;
+import com.platform.common.datasource.ReadOnlyTransaction;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -35,12 +44,33 @@ class CouponServiceTest {
     //private CouponServiceAnswer couponService; // 정답 코드로 테스트
      private CouponService couponService; // 본인 코드 테스트 시 주석 해제
 
+    @Autowired
+    private CouponServiceWithAtomicGate atomicGateService;
+
+    @Autowired
+    private CouponServiceWithConditionalUpdate conditionalUpdateService;
+
+    @Autowired
+    private CouponWaitingRoom couponWaitingRoom;
+
+    @Autowired
+    private ActiveCouponCatalog activeCouponCatalog;
+
+    @Autowired
+    private CouponIssueTelemetry couponIssueTelemetry;
+
     @Autowired
     private CouponRepository couponRepository;
 
     @Autowired
     private UserCouponRepository userCouponRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReadOnlyTransaction readOnlyTransaction;
+
     @Test
     @Transactional
     @DisplayName("쿠폰 발급 성공")
@@ -78,6 +108,48 @@ class CouponServiceTest {
                 .hasMessageContaining("이미 발급받은 쿠폰입니다");
     }
 
+    @Test
+    @DisplayName("메모리 필터에 없는 중복 요청도 쿠폰 수량을 건드리지 않고 거절")
+    void issueCoupon_Duplicate_NotInRegistry_KeepsQuantity() {
+        // given: 다른 경로(일괄 지급 등)로 이미 발급된 사용자
+        Long userId = 33_000L;
+        Long couponId = saveActiveCoupon("중복 수량 쿠폰", 10).getId();
+        userCouponRepository.save(UserCoupon.builder()
+                .userId(userId)
+                .couponId(couponId)
+                .issuedAt(LocalDateTime.now())
+                .used(false)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(new IssueCouponRequest(userId, couponId)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 발급받은 쿠폰입니다");
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("사용한 쿠폰도 재발급 불가")
+    void issueCoupon_AfterUse_Duplicate_Fail() {
+        // given
+        Long userId = 3L;
+        Long couponId = saveActiveCoupon("재발급 방지 쿠폰", 10).getId();
+
+        couponService.issueCoupon(new IssueCouponRequest(userId, couponId));
+        UserCoupon userCoupon = userCouponRepository.findByUserIdAndCouponIdAndUsed(userId, couponId, false)
+                .orElseThrow();
+        userCoupon.use();
+        userCouponRepository.saveAndFlush(userCoupon);
+
+        // when & then
+        assertThatThrownBy(() ->
+                couponService.issueCoupon(new IssueCouponRequest(userId, couponId))
+        )
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 발급받은 쿠폰입니다");
+    }
+
     @Test
     @DisplayName("선착순 쿠폰 동시성 테스트 - 100명만 발급")
     void issueCoupon_Concurrency_Test() throws InterruptedException {
@@ -125,6 +197,253 @@ class CouponServiceTest {
         assertThat(coupon.getIssuedQuantity()).isEqualTo(100);
     }
 
+    @Test
+    @DisplayName("선착순 쿠폰 동시성 테스트 (Atomic Gate) - 10000명 중 100명만 발급")
+    void issueCoupon_AtomicGate_Concurrency_Test() throws InterruptedException {
+        // given: 쿠폰 100개
+        Long couponId = saveActiveCoupon("선착순 100명 게이트 쿠폰", 100).getId();
+        int threadCount = 10000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when: 10000명이 동시에 발급 요청
+        for (int i = 0; i < threadCount; i++) {
+            long userId = 10_000L + i;
+            executor.submit(() -> {
+                try {
+                    atomicGateService.issueCoupon(new IssueCouponRequest(userId, couponId));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // then: 정확히 100명만 성공, DB 발급 수량과 UserCoupon 건수도 일치
+        Coupon coupon = couponRepository.findById(couponId).orElseThrow();
+        long issuedRows = userCouponRepository.findAll().stream()
+                .filter(userCoupon -> userCoupon.getCouponId().equals(couponId))
+                .count();
+
+        System.out.println("\n========================================");
+        System.out.println("선착순 쿠폰 동시성 테스트 (Atomic Gate)");
+        System.out.println("========================================");
+        System.out.println("총 요청: " + threadCount + "명");
+        System.out.println("성공: " + successCount.get() + "명");
+        System.out.println("실패: " + failCount.get() + "명");
+        System.out.println("최종 발급 수량: " + coupon.getIssuedQuantity());
+        System.out.println("========================================\n");
+
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(failCount.get()).isEqualTo(threadCount - 100);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(100);
+        assertThat(issuedRows).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("선착순 쿠폰 동시성 테스트 (조건부 UPDATE) - 1000명 중 100명만 발급")
+    void issueCoupon_ConditionalUpdate_Concurrency_Test() throws InterruptedException {
+        // given: 쿠폰 100개
+        Long couponId = saveActiveCoupon("선착순 100명 조건부 UPDATE 쿠폰", 100).getId();
+        int threadCount = 1000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(100);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when: 1000명이 동시에 발급 요청
+        for (int i = 0; i < threadCount; i++) {
+            long userId = 30_000L + i;
+            executor.submit(() -> {
+                try {
+                    conditionalUpdateService.issueCoupon(new IssueCouponRequest(userId, couponId));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 발급 불가
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        // then: 정확히 100명만 성공, 탈락자의 UserCoupon INSERT는 롤백
+        Coupon coupon = couponRepository.findById(couponId).orElseThrow();
+        long issuedRows = userCouponRepository.findAll().stream()
+                .filter(userCoupon -> userCoupon.getCouponId().equals(couponId))
+                .count();
+
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(100);
+        assertThat(issuedRows).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 발급 - 없는 쿠폰은 IllegalArgumentException")
+    void issueCoupon_ConditionalUpdate_NotFound() {
+        assertThatThrownBy(() -> conditionalUpdateService.issueCoupon(new IssueCouponRequest(31_000L, 999_999L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("쿠폰이 존재하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("발급 지표 - 시도/성공/소진/중복 집계와 남은 수량")
+    void issueCoupon_Telemetry() {
+        // given: 쿠폰 3개
+        Long couponId = saveActiveCoupon("지표 쿠폰", 3).getId();
+
+        // when: 3명 성공, 1명 중복, 2명 소진
+        for (long userId = 32_000L; userId < 32_003L; userId++) {
+            couponService.issueCoupon(new IssueCouponRequest(userId, couponId));
+        }
+        assertThatThrownBy(() -> couponService.issueCoupon(new IssueCouponRequest(32_000L, couponId)))
+                .isInstanceOf(IllegalStateException.class);
+        for (long userId = 32_003L; userId < 32_005L; userId++) {
+            long id = userId;
+            assertThatThrownBy(() -> couponService.issueCoupon(new IssueCouponRequest(id, couponId)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        // then
+        CouponStatsResponse stats = couponIssueTelemetry.getStats(couponId);
+        assertThat(stats.getAttempts()).isEqualTo(6);
+        assertThat(stats.getIssued()).isEqualTo(3);
+        assertThat(stats.getDuplicates()).isEqualTo(1);
+        assertThat(stats.getSoldOut()).isEqualTo(2);
+        assertThat(stats.getLockWaitCount()).isEqualTo(5);
+        assertThat(stats.getRemainingQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("발급 지표 - 롤백된 발급은 제외, 다른 발급 전략도 집계")
+    void issueCoupon_Telemetry_CommittedOnly() {
+        // given
+        Long couponId = saveActiveCoupon("지표 롤백 쿠폰", 3).getId();
+
+        // when: 1건은 롤백, 1건은 조건부 UPDATE 전략으로 발급
+        transactionTemplate.executeWithoutResult(status -> {
+            couponService.issueCoupon(new IssueCouponRequest(33_000L, couponId));
+            status.setRollbackOnly();
+        });
+        conditionalUpdateService.issueCoupon(new IssueCouponRequest(33_001L, couponId));
+
+        // then
+        CouponStatsResponse stats = couponIssueTelemetry.getStats(couponId);
+        assertThat(stats.getIssued()).isEqualTo(1);
+        assertThat(stats.getRemainingQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발급 대기열 - 대기 번호 순서대로 수량만큼만 발급")
+    void issueCoupon_WaitingRoom() {
+        // given: 쿠폰 3개, 5명 대기
+        Long couponId = saveActiveCoupon("대기열 쿠폰", 3).getId();
+        List<WaitingTicketResponse> tickets = new ArrayList<>();
+        for (long userId = 20_000L; userId < 20_005L; userId++) {
+            tickets.add(couponWaitingRoom.enter(new IssueCouponRequest(userId, couponId)));
+        }
+
+        // when
+        couponWaitingRoom.drain();
+
+        // then: 먼저 들어온 3명만 발급
+        List<WaitingStatus> statuses = tickets.stream()
+                .map(ticket -> couponWaitingRoom.getTicket(ticket.getTicketId()).getStatus())
+                .toList();
+        assertThat(tickets).extracting(WaitingTicketResponse::getSequence).isSorted();
+        assertThat(statuses).containsExactly(
+                WaitingStatus.ISSUED, WaitingStatus.ISSUED, WaitingStatus.ISSUED,
+                WaitingStatus.FAILED, WaitingStatus.FAILED);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("발급 대기열 - 대기 중인 같은 사용자는 기존 대기표를 받고 배치 자리를 더 차지하지 않음")
+    void issueCoupon_WaitingRoom_DuplicateEnter() {
+        // given
+        Long couponId = saveActiveCoupon("대기열 중복 쿠폰", 10).getId();
+        WaitingTicketResponse first = couponWaitingRoom.enter(new IssueCouponRequest(21_000L, couponId));
+
+        // when
+        WaitingTicketResponse again = couponWaitingRoom.enter(new IssueCouponRequest(21_000L, couponId));
+        WaitingTicketResponse other = couponWaitingRoom.enter(new IssueCouponRequest(21_001L, couponId));
+
+        // then
+        assertThat(again.getTicketId()).isEqualTo(first.getTicketId());
+        assertThat(again.getSequence()).isEqualTo(first.getSequence());
+        assertThat(other.getSequence()).isEqualTo(first.getSequence() + 1);
+        assertThat(other.getTicketId()).isNotEqualTo(first.getTicketId()).hasSizeGreaterThanOrEqualTo(22);
+
+        couponWaitingRoom.drain();
+        assertThat(couponWaitingRoom.getTicket(first.getTicketId()).getStatus()).isEqualTo(WaitingStatus.ISSUED);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발급 가능 쿠폰 목록 - 기간 내 + 수량 남은 쿠폰만")
+    void getAvailableCoupons_ActiveOnly() {
+        // given
+        Long activeId = saveActiveCoupon("진행중 쿠폰", 10).getId();
+        Long soldOutId = saveActiveCoupon("소진 쿠폰", 1).getId();
+        Long upcomingId = couponRepository.save(Coupon.builder()
+                .name("오픈 예정 쿠폰")
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(10000)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .build()).getId();
+        activeCouponCatalog.refresh();
+
+        // when: 소진 쿠폰의 마지막 1장 발급
+        couponService.issueCoupon(new IssueCouponRequest(40_000L, soldOutId));
+        List<Long> availableIds = couponService.getAvailableCoupons().stream()
+                .map(CouponResponse::getId)
+                .toList();
+
+        // then
+        assertThat(availableIds).contains(activeId);
+        assertThat(availableIds).doesNotContain(soldOutId, upcomingId);
+    }
+
+    @Test
+    @DisplayName("발급 가능 쿠폰 목록 - 새로 만든 쿠폰은 재적재 주기를 기다리지 않고 포함")
+    void getAvailableCoupons_NewCouponVisible() {
+        // given: 카탈로그 적재 후 쿠폰 생성
+        couponService.getAvailableCoupons();
+        Long createdId = saveActiveCoupon("새 쿠폰", 10).getId();
+
+        // when
+        List<Long> availableIds = couponService.getAvailableCoupons().stream()
+                .map(CouponResponse::getId)
+                .toList();
+
+        // then
+        assertThat(availableIds).contains(createdId);
+    }
+
+    @Test
+    @DisplayName("발급 가능 쿠폰 목록 버전 - 같은 데이터라도 프로세스(카탈로그)마다 다른 ETag 버전")
+    void getVersion_DiffersAcrossInstances() {
+        LocalDateTime now = LocalDateTime.now();
+        ActiveCouponCatalog restarted = new ActiveCouponCatalog(couponRepository, readOnlyTransaction);
+        ActiveCouponCatalog other = new ActiveCouponCatalog(couponRepository, readOnlyTransaction);
+
+        assertThat(restarted.getVersion(now)).isNotEqualTo(other.getVersion(now));
+    }
+
     @Test
     @Transactional
     @DisplayName("할인 금액 계산 - 정액 쿠폰")
@@ -233,4 +552,17 @@ class CouponServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("최소 주문 금액을 만족하지 않습니다");
     }
+
+    private Coupon saveActiveCoupon(String name, int totalQuantity) {
+        return couponRepository.save(Coupon.builder()
+                .name(name)
+                .type(CouponType.FIXED)
+                .discountValue(10000)
+                .minOrderAmount(10000)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .build());
+    }
 }
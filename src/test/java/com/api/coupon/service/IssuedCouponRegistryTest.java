@@ -0,0 +1,40 @@
+package com.api.coupon.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssuedCouponRegistryTest {
+
+    @Test
+    @DisplayName("쿠폰당 상한을 넘는 발급자는 기록하지 않음")
+    void perCouponLimit() {
+        IssuedCouponRegistry registry = new IssuedCouponRegistry(2, 100);
+
+        registry.markIssued(1L, 10L);
+        registry.markIssued(1L, 11L);
+        registry.markIssued(1L, 12L);
+
+        assertThat(registry.isIssued(1L, 11L)).isTrue();
+        assertThat(registry.isIssued(1L, 12L)).isFalse();
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 상한을 넘으면 가장 오래 발급이 없던 쿠폰부터 제거")
+    void evictsIdleCouponOverTotalLimit() {
+        IssuedCouponRegistry registry = new IssuedCouponRegistry(10, 4);
+
+        registry.markIssued(1L, 10L);
+        registry.markIssued(1L, 11L);
+        registry.markIssued(2L, 20L);
+        registry.markIssued(2L, 21L);
+        registry.markIssued(3L, 30L);
+
+        assertThat(registry.isIssued(1L, 10L)).isFalse();
+        assertThat(registry.isIssued(2L, 20L)).isTrue();
+        assertThat(registry.isIssued(3L, 30L)).isTrue();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+}
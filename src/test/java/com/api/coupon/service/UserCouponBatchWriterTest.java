@@ -0,0 +1,98 @@
+package com.api.coupon.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest(classes = com.platform.BackendPrepareApplication.class)
+class UserCouponBatchWriterTest {
+
+    @Autowired
+    private UserCouponBatchWriter userCouponBatchWriter;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Test
+    @DisplayName("Group Commit - 여러 요청을 모아 커밋하고 발급 수량을 합산 반영")
+    void submit_Batch() {
+        Long couponId = saveCoupon(1000).getId();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long userId = 40_000L; userId < 40_200L; userId++) {
+            futures.add(userCouponBatchWriter.submit(couponId, userId));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Group Commit - 배치 안의 중복 발급은 해당 요청만 실패")
+    void submit_Duplicate_FailsOnlyDuplicate() {
+        Long couponId = saveCoupon(1000).getId();
+
+        CompletableFuture<Void> first = userCouponBatchWriter.submit(couponId, 41_000L);
+        CompletableFuture<Void> second = userCouponBatchWriter.submit(couponId, 41_001L);
+        CompletableFuture<Void> duplicate = userCouponBatchWriter.submit(couponId, 41_000L);
+
+        first.join();
+        second.join();
+        assertThatThrownBy(duplicate::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("이미 발급받은 쿠폰입니다");
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("writer 가 집어 가기 전 요청은 취소 가능, 종료 시 남은 요청은 실패로 완료")
+    void cancelAndStop_CompleteQueuedRequests() throws InterruptedException {
+        // given: writer 스레드를 시작하지 않은 인스턴스 (요청은 큐에 머묾)
+        UserCouponBatchWriter writer = new UserCouponBatchWriter(
+                mock(JdbcTemplate.class), mock(TransactionTemplate.class), 10, 10, 5, 100);
+        CompletableFuture<Void> cancelled = writer.submit(1L, 1L);
+        CompletableFuture<Void> queued = writer.submit(1L, 2L);
+
+        // when
+        boolean cancelResult = cancelled.cancel(false);
+        writer.stop();
+
+        // then
+        assertThat(cancelResult).isTrue();
+        assertThatThrownBy(queued::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> writer.submit(1L, 3L).join())
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private Coupon saveCoupon(int totalQuantity) {
+        return couponRepository.save(Coupon.builder()
+                .name("Group Commit 쿠폰")
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.api.coupon.service;
+
+import com.api.coupon.dto.CouponResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCouponWalletCacheTest {
+
+    @Test
+    @DisplayName("무효화 이전에 시작된 조회 - 그 사이 LRU 에서 밀려나도 저장하지 않음")
+    void get_InvalidatedDuringLoad_NotStored() {
+        UserCouponWalletCache cache = new UserCouponWalletCache(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(1L);
+            cache.get(2L, List::of);    // 1번 사용자 항목이 있었다면 밀려남
+            return List.of(CouponResponse.builder().id(10L).build());
+        });
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자 무효화 - 다른 사용자 지갑을 밀어내지 않음")
+    void invalidate_NotCached_KeepsOthers() {
+        UserCouponWalletCache cache = new UserCouponWalletCache(1);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        cache.invalidate(2L);
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -0,0 +1,337 @@
+package com.platform.benchmark;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.service.CouponService;
+import com.api.coupon.service.CouponServiceAnswer;
+import com.api.coupon.service.CouponServiceWithAtomicGate;
+import com.api.coupon.service.CouponServiceWithConditionalUpdate;
+import com.platform.stock.domain.Menu;
+import com.platform.stock.dto.CheckoutRequest;
+import com.platform.stock.dto.CreateOrderRequest;
+import com.platform.stock.repository.MenuRepository;
+import com.platform.stock.service.CheckoutService;
+import com.platform.stock.service.OrderService;
+import com.platform.stock.service.OrderServiceWithOptimisticLock;
+import com.platform.stock.service.OrderServiceWithPessimisticLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 전략별 경합 부하 벤치마크
+ *
+ * 주문 전략 (동시성 처리 없음 / Pessimistic / Optimistic / Checkout 조건부 UPDATE) 과
+ * 쿠폰 발급 전략 (CouponService / Answer / Atomic Gate / 조건부 UPDATE) 을
+ * 스레드 수 x 재고 x 인기 메뉴 쏠림(Zipf) x 장바구니 크기 조합으로 실행하고
+ * 처리량, p50/p99/p999 지연, 성공/실패, 재시도, 락 대기 시간을 표로 출력한다.
+ *
+ * ./gradlew benchmarkTest --tests '*ContentionBenchmarkTest' \
+ *     -Dbench.threads=8,32,128 -Dbench.stock=10,1000 -Dbench.skew=0,0.99 -Dbench.cart=1,3 -Dbench.requests=2000
+ *
+ * 결과: build/reports/contention/contention-<시각>.md
+ *
+ * 측정 기준:
+ * - 락 대기: 락 조회 / 조건부 UPDATE 호출 시간 합 (요청당 평균, Atomic Gate 는 DB 락 조회 없음)
+ * - 재시도: 요청 안에서 장바구니 크기보다 더 호출된 락 조회 수
+ * - oversold: 성공한 주문 수량과 실제 재고 감소량 차이 (0 이 아니면 정합성 깨짐)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:contention;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+        "logging.level.com.platform.stock.service=error",
+        "rate-limit.enabled=false"
+})
+class ContentionBenchmarkTest {
+
+    private static final int MENU_COUNT = 10;
+
+    @TestConfiguration
+    static class TimingConfig {
+        @Bean
+        static RepositoryTimingProxy repositoryTimingProxy() {
+            return new RepositoryTimingProxy(MenuRepository.class, CouponRepository.class);
+        }
+    }
+
+    @Autowired private OrderService orderService;
+    @Autowired private OrderServiceWithPessimisticLock pessimisticLockService;
+    @Autowired private OrderServiceWithOptimisticLock optimisticLockService;
+    @Autowired private CheckoutService checkoutService;
+    @Autowired private CouponService couponService;
+    @Autowired private CouponServiceAnswer couponServiceAnswer;
+    @Autowired private CouponServiceWithAtomicGate atomicGateService;
+    @Autowired private CouponServiceWithConditionalUpdate conditionalUpdateService;
+    @Autowired private MenuRepository menuRepository;
+    @Autowired private CouponRepository couponRepository;
+
+    private final AtomicLong userIdSequence = new AtomicLong(100_000_000L);
+
+    private interface OrderStrategy {
+        void order(long userId, List<CreateOrderRequest.OrderItemRequest> items);
+    }
+
+    private interface IssueStrategy {
+        void issue(IssueCouponRequest request);
+    }
+
+    @Test
+    @DisplayName("락 전략별 처리량/지연 비교표")
+    void compareStrategies() throws Exception {
+        int[] threadGrid = intList("bench.threads", "8,32,128");
+        int[] stockGrid = intList("bench.stock", "10,1000");
+        double[] skewGrid = doubleList("bench.skew", "0,0.99");
+        int[] cartGrid = intList("bench.cart", "1,3");
+        int requests = Integer.parseInt(System.getProperty("bench.requests", "2000"));
+
+        List<String> orderNames = List.of("none", "pessimistic", "optimistic", "checkout");
+        List<OrderStrategy> orderStrategies = List.of(
+                (userId, items) -> orderService.createOrder(new CreateOrderRequest(userId, items)),
+                (userId, items) -> pessimisticLockService.createOrder(new CreateOrderRequest(userId, items)),
+                (userId, items) -> optimisticLockService.createOrder(new CreateOrderRequest(userId, items)),
+                (userId, items) -> checkoutService.checkout(new CheckoutRequest(userId, items, null)));
+
+        List<String> issueNames = List.of("coupon-service", "answer", "atomic-gate", "conditional");
+        List<IssueStrategy> issueStrategies = List.of(
+                couponService::issueCoupon,
+                couponServiceAnswer::issueCoupon,
+                atomicGateService::issueCoupon,
+                conditionalUpdateService::issueCoupon);
+
+        // JIT / 커넥션 풀 워밍업
+        runOrders(orderStrategies.get(1), 8, 1000, 0, 1, 500);
+        runIssues(issueStrategies.get(0), 8, 1000, 500);
+
+        List<Row> rows = new ArrayList<>();
+        for (int threads : threadGrid) {
+            for (int stock : stockGrid) {
+                for (double skew : skewGrid) {
+                    for (int cart : cartGrid) {
+                        for (int i = 0; i < orderStrategies.size(); i++) {
+                            Result result = runOrders(orderStrategies.get(i), threads, stock, skew, cart, requests);
+                            rows.add(new Row("order", orderNames.get(i), threads, stock, skew, cart, requests, result));
+                        }
+                    }
+                }
+                for (int i = 0; i < issueStrategies.size(); i++) {
+                    Result result = runIssues(issueStrategies.get(i), threads, stock, requests);
+                    rows.add(new Row("coupon", issueNames.get(i), threads, stock, 0, 1, requests, result));
+                }
+            }
+        }
+
+        report(rows);
+    }
+
+    private Result runOrders(OrderStrategy strategy, int threads, int stock, double skew, int cart, int requests)
+            throws InterruptedException {
+        long[] menuIds = new long[MENU_COUNT];
+        for (int i = 0; i < MENU_COUNT; i++) {
+            menuIds[i] = menuRepository.save(Menu.builder().name("부하 메뉴 " + i).price(10_000).stock(stock).build()).getId();
+        }
+        ZipfSampler sampler = new ZipfSampler(MENU_COUNT, skew);
+        AtomicInteger orderedQuantity = new AtomicInteger();
+
+        Result result = run(threads, requests, () -> {
+            Set<Integer> picked = new LinkedHashSet<>();
+            while (picked.size() < Math.min(cart, MENU_COUNT)) {
+                picked.add(sampler.next());
+            }
+            List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>(picked.size());
+            for (int index : picked) {
+                items.add(new CreateOrderRequest.OrderItemRequest(menuIds[index], 1));
+            }
+            strategy.order(userIdSequence.incrementAndGet(), items);
+            orderedQuantity.addAndGet(items.size());
+            return items.size();
+        });
+
+        long remaining = 0;
+        for (long menuId : menuIds) {
+            remaining += menuRepository.findById(menuId).orElseThrow().getStock();
+        }
+        long sold = (long) stock * MENU_COUNT - remaining;
+        return result.withOversold(orderedQuantity.get() - sold);
+    }
+
+    private Result runIssues(IssueStrategy strategy, int threads, int quantity, int requests) throws InterruptedException {
+        Long couponId = couponRepository.save(Coupon.builder()
+                .name("부하 쿠폰")
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(quantity)
+                .issuedQuantity(0)
+                .build()).getId();
+        AtomicInteger issued = new AtomicInteger();
+
+        Result result = run(threads, requests, () -> {
+            strategy.issue(new IssueCouponRequest(userIdSequence.incrementAndGet(), couponId));
+            issued.incrementAndGet();
+            return 1;
+        });
+
+        int issuedQuantity = couponRepository.findById(couponId).orElseThrow().getIssuedQuantity();
+        return result.withOversold(issued.get() - issuedQuantity);
+    }
+
+    private interface Request {
+        /**
+         * @return 요청이 잡아야 하는 락 수 (재시도 판단 기준)
+         */
+        int execute();
+    }
+
+    private Result run(int threads, int requests, Request request) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        long[] latencies = new long[requests];
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();    // 재고/수량 소진 등 정상 거절
+        AtomicInteger conflicts = new AtomicInteger();   // 낙관적 락 충돌
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong retries = new AtomicLong();
+        long lockWaitBefore = RepositoryTimingProxy.LOCK_WAIT_NANOS.sum();
+
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    RepositoryTimingProxy.resetCalls();
+                    long start = System.nanoTime();
+                    int expectedLocks = 0;
+                    try {
+                        expectedLocks = request.execute();
+                        success.incrementAndGet();
+                    } catch (ObjectOptimisticLockingFailureException e) {
+                        conflicts.incrementAndGet();
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - start;
+                    retries.addAndGet(Math.max(0, RepositoryTimingProxy.calls() - Math.max(expectedLocks, 1)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        long lockWaitNanos = RepositoryTimingProxy.LOCK_WAIT_NANOS.sum() - lockWaitBefore;
+        return new Result(elapsed, latencies, success.get(), rejected.get(), conflicts.get(), errors.get(),
+                retries.get(), lockWaitNanos, 0);
+    }
+
+    private void report(List<Row> rows) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append("| kind | strategy | threads | stock | skew | cart | req/s | p50 ms | p99 ms | p999 ms "
+                + "| ok | rejected | conflict | error | retries | lock wait ms/req | oversold |\n");
+        table.append("|---|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        for (Row row : rows) {
+            Result r = row.result;
+            table.append(String.format("| %s | %s | %d | %d | %.2f | %d | %.0f | %.2f | %.2f | %.2f | %d | %d | %d | %d | %d | %.3f | %d |%n",
+                    row.kind, row.strategy, row.threads, row.stock, row.skew, row.cart,
+                    row.requests * 1e9 / r.elapsedNanos,
+                    r.percentile(0.50) / 1e6, r.percentile(0.99) / 1e6, r.percentile(0.999) / 1e6,
+                    r.success, r.rejected, r.conflicts, r.errors, r.retries,
+                    r.lockWaitNanos / 1e6 / row.requests, r.oversold));
+        }
+
+        System.out.println("\n" + table);
+        Path output = Paths.get("build", "reports", "contention",
+                "contention-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, table);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    private record Row(String kind, String strategy, int threads, int stock, double skew, int cart,
+                       int requests, Result result) {
+    }
+
+    private record Result(long elapsedNanos, long[] latencies, int success, int rejected, int conflicts,
+                          int errors, long retries, long lockWaitNanos, long oversold) {
+        long percentile(double p) {
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(latencies.length - 1, index))];
+        }
+
+        Result withOversold(long oversold) {
+            return new Result(elapsedNanos, latencies, success, rejected, conflicts, errors, retries, lockWaitNanos, oversold);
+        }
+    }
+
+    /**
+     * Zipf 분포 메뉴 선택 (skew = 0 이면 균등)
+     */
+    private static final class ZipfSampler {
+        private final double[] cumulative;
+
+        private ZipfSampler(int size, double skew) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += 1.0 / Math.pow(i + 1, skew);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < size; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        private int next() {
+            int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+
+    private static int[] intList(String key, String defaultValue) {
+        return Arrays.stream(System.getProperty(key, defaultValue).split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    }
+
+    private static double[] doubleList(String key, String defaultValue) {
+        return Arrays.stream(System.getProperty(key, defaultValue).split(",")).mapToDouble(s -> Double.parseDouble(s.trim())).toArray();
+    }
+}
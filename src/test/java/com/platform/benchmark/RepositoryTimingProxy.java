@@ -0,0 +1,81 @@
+package com.platform.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락을 잡는 Repository 메서드 시간 측정용 JDK Proxy
+ *
+ * - 락 조회 / 조건부 UPDATE 호출 시간 합계 (경합 시 대부분 락 대기 시간)
+ * - 요청(스레드)별 호출 횟수 → 장바구니 크기보다 많이 호출되면 재시도로 집계
+ */
+class RepositoryTimingProxy implements BeanPostProcessor {
+
+    private static final Set<String> LOCKING_METHODS = Set.of(
+            "findByIdWithPessimisticLock",
+            "findByIdWithOptimisticLock",
+            "decreaseStock",
+            "findByIdWithPessmisticLock",
+            "claimIssue",
+            "increaseIssuedQuantity"
+    );
+
+    static final LongAdder LOCK_WAIT_NANOS = new LongAdder();
+    private static final ThreadLocal<int[]> CALLS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Set<Class<?>> targetTypes;
+
+    RepositoryTimingProxy(Class<?>... targetTypes) {
+        this.targetTypes = Set.of(targetTypes);
+    }
+
+    static void resetCalls() {
+        CALLS.get()[0] = 0;
+    }
+
+    static int calls() {
+        return CALLS.get()[0];
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Class<?> type : targetTypes) {
+            if (type.isInstance(bean)) {
+                return Proxy.newProxyInstance(bean.getClass().getClassLoader(),
+                        ClassUtils.getAllInterfaces(bean), new TimingHandler(bean));
+            }
+        }
+        return bean;
+    }
+
+    private record TimingHandler(Object target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!LOCKING_METHODS.contains(method.getName())) {
+                return invokeTarget(method, args);
+            }
+            CALLS.get()[0]++;
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                LOCK_WAIT_NANOS.add(System.nanoTime() - start);
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
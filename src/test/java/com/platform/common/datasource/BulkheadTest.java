@@ -0,0 +1,142 @@
+package com.platform.common.datasource;
+
+import com.platform.common.metrics.ContentionMetrics;
+import com.platform.stock.domain.Menu;
+import com.platform.stock.repository.MenuRepository;
+import com.platform.stock.service.MenuService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 쓰기 풀이 락을 잡은 트랜잭션으로 가득 차도 읽기(readOnly / 트랜잭션 밖)는 별도 풀에서 처리되는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1",
+        "datasource.bulkhead.enabled=true",
+        "datasource.bulkhead.write.maximum-pool-size=2",
+        "datasource.bulkhead.write.connection-timeout-ms=300",
+        "datasource.bulkhead.read.maximum-pool-size=2"
+})
+@AutoConfigureMockMvc
+class BulkheadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource writePool;
+
+    @Autowired
+    @Qualifier("readPoolDataSource")
+    private HikariDataSource readPool;
+
+    @Test
+    @DisplayName("풀 이름이 write / read 로 나뉜다")
+    void poolsAreSeparated() {
+        assertThat(writePool.getPoolName()).isEqualTo("write");
+        assertThat(writePool.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(readPool.getPoolName()).isEqualTo("read");
+        assertThat(readPool.getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("503 은 쓰기 풀 대기 시간 초과에만 응답 (읽기 풀 초과, DB 장애는 제외)")
+    void onlyWritePoolTimeoutIsHandled() {
+        assertThat(ConnectionPoolExceptionHandler.isWritePoolTimeout(new DataAccessResourceFailureException("timeout",
+                new SQLTransientConnectionException("write - Connection is not available")))).isTrue();
+        assertThat(ConnectionPoolExceptionHandler.isWritePoolTimeout(new DataAccessResourceFailureException("timeout",
+                new SQLTransientConnectionException("read - Connection is not available")))).isFalse();
+        assertThat(ConnectionPoolExceptionHandler.isWritePoolTimeout(
+                new DataAccessResourceFailureException("connection refused"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 풀이 가득 차면 쓰기는 빠르게 실패하고 읽기는 계속 처리된다")
+    void saturatedWritePoolDoesNotBlockReads() throws Exception {
+        Long menuId = menuRepository.save(Menu.builder().name("인기 메뉴").price(10000).stock(100).build()).getId();
+
+        int holders = writePool.getMaximumPoolSize();
+        CountDownLatch locked = new CountDownLatch(holders);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(holders);
+        try {
+            for (int i = 0; i < holders; i++) {
+                executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    // 커넥션을 실제로 잡도록 SQL 실행 후 대기
+                    menuRepository.findById(menuId);
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long start = System.nanoTime();
+            Throwable writeFailure = catchThrowable(() -> transactionTemplate.executeWithoutResult(
+                    status -> menuRepository.findById(menuId)));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(writeFailure)
+                    .isInstanceOfAny(CannotCreateTransactionException.class, DataAccessResourceFailureException.class);
+            assertThat(ConnectionPoolExceptionHandler.isWritePoolTimeout(writeFailure)).isTrue();
+            assertThat(ContentionMetrics.classify(writeFailure)).isEqualTo(ContentionMetrics.OUTCOME_POOL_TIMEOUT);
+            assertThat(elapsedMs).isLessThan(2000);
+
+            // readOnly 트랜잭션과 트랜잭션 밖 조회는 읽기 풀에서 처리
+            assertThat(menuService.getAllMenus()).extracting("id").contains(menuId);
+            assertThat(new JdbcTemplate(dataSource).queryForObject("select count(*) from menu where id = ?",
+                    Long.class, menuId)).isEqualTo(1L);
+
+            // 쓰기 API 는 503 + Retry-After
+            mockMvc.perform(post("/api/coupons/issue")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"userId\": 95000, \"couponId\": 1}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.platform.common.datasource;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.dto.CouponResponse;
+import com.api.coupon.dto.IssueCouponRequest;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.service.CouponService;
+import com.platform.stock.domain.Menu;
+import com.platform.stock.repository.MenuRepository;
+import com.platform.stock.service.MenuService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 두 개(primary / replica)로 readOnly 라우팅 확인
+ * 복제는 테스트에서 SCRIPT → RUNSCRIPT 로 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.routing.lag-query=select datediff('MILLISECOND', beat_at, current_timestamp) from replication_heartbeat",
+        "datasource.routing.max-lag-ms=5000",
+        "datasource.routing.lag-check-interval-ms=3600000"
+})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ReplicaSelector replicaSelector;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private Long menuId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        menuId = menuRepository.save(Menu.builder().name("primary 메뉴").price(10000).stock(10).build()).getId();
+        replicate();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션은 primary 에서 읽는다")
+    void readOnlyGoesToReplica() {
+        replica.update("update menu set name = 'replica 메뉴' where id = ?", menuId);
+        replicaLagMonitor.check();
+
+        assertThat(replicaSelector.getAvailable()).containsExactly("replica-0");
+        assertThat(menuService.getMenu(menuId).getName()).isEqualTo("replica 메뉴");
+        assertThat(transactionTemplate.execute(status -> menuRepository.findById(menuId).orElseThrow().getName()))
+                .isEqualTo("primary 메뉴");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 primary 에서 읽는다")
+    void staleReplicaFallsBackToPrimary() {
+        replica.update("update menu set name = 'replica 메뉴' where id = ?", menuId);
+        replica.update("update replication_heartbeat set beat_at = dateadd('HOUR', -1, current_timestamp)");
+        replicaLagMonitor.check();
+
+        assertThat(replicaSelector.getAvailable()).isEmpty();
+        assertThat(menuService.getMenu(menuId).getName()).isEqualTo("primary 메뉴");
+    }
+
+    @Test
+    @DisplayName("발급/생성 직후 replica 가 따라오지 못해도 지갑과 카탈로그는 primary 에서 재적재한다")
+    void cacheLoadsAfterInvalidationGoToPrimary() throws Exception {
+        Long userId = 91_000L;
+        Long couponId = couponRepository.save(coupon("발급 쿠폰")).getId();
+        replicate();
+        replicaLagMonitor.check();
+        assertThat(replicaSelector.getAvailable()).containsExactly("replica-0");
+
+        // 발급 전 지갑 캐시
+        assertThat(couponService.getUserCoupons(userId)).isEmpty();
+
+        // when: 발급과 쿠폰 생성은 primary 에만 반영 (replica 는 지연 허용치 안에서 이전 상태)
+        couponService.issueCoupon(new IssueCouponRequest(userId, couponId));
+        Long createdId = couponRepository.save(coupon("새 쿠폰")).getId();
+        assertThat(replica.queryForObject("select count(*) from user_coupon where user_id = ?", Long.class, userId))
+                .isZero();
+
+        // then
+        assertThat(couponService.getUserCoupons(userId))
+                .extracting(CouponResponse::getId).containsExactly(couponId);
+        assertThat(couponService.getAvailableCoupons())
+                .extracting(CouponResponse::getId).contains(couponId, createdId);
+    }
+
+    private static Coupon coupon(String name) {
+        return Coupon.builder()
+                .name(name)
+                .type(CouponType.FIXED)
+                .discountValue(1000)
+                .minOrderAmount(0)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .build();
+    }
+
+    /**
+     * primary 전체를 replica 로 복사 + heartbeat 갱신
+     */
+    private void replicate() throws Exception {
+        Path script = Files.createTempFile("routing-replica", ".sql");
+        try {
+            new JdbcTemplate(dataSource).execute("SCRIPT TO '" + script.toAbsolutePath() + "'");
+            replica.execute("DROP ALL OBJECTS");
+            replica.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+        replica.execute("create table replication_heartbeat (beat_at timestamp)");
+        replica.update("insert into replication_heartbeat values (current_timestamp)");
+    }
+}
@@ -0,0 +1,74 @@
+package com.platform.common.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentionEventsTest {
+
+    @Test
+    @DisplayName("contention.jfc 설정으로 녹화하면 경합 이벤트가 기록된다")
+    void recordWithContentionProfile() throws Exception {
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/jfr/contention.jfc"), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+
+        Path file = Files.createTempFile("contention", ".jfr");
+        try (Recording recording = new Recording(configuration)) {
+            // 테스트에서는 threshold 무시
+            recording.enable(LockAcquireEvent.class).withoutThreshold();
+            recording.start();
+
+            LockAcquireEvent lock = ContentionEvents.beginLockAcquire("menu", 10L, ContentionEvents.PESSIMISTIC);
+            ContentionEvents.endLockAcquire(lock, true);
+            ContentionEvents.optimisticConflict("menu", 10L, 1);
+            ContentionEvents.backoff("menu", 1, 5);
+            ContentionEvents.outOfStock("coupon", 20L, 1, 0);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.platform."))
+                .toList();
+        Files.deleteIfExists(file);
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .containsExactlyInAnyOrder("com.platform.LockAcquire", "com.platform.OptimisticConflict",
+                        "com.platform.Backoff", "com.platform.OutOfStock");
+
+        RecordedEvent lockEvent = find(events, "com.platform.LockAcquire");
+        assertThat(lockEvent.getString("resource")).isEqualTo("menu");
+        assertThat(lockEvent.getLong("resourceId")).isEqualTo(10L);
+        assertThat(lockEvent.getBoolean("acquired")).isTrue();
+
+        RecordedEvent backoff = find(events, "com.platform.Backoff");
+        assertThat(backoff.getDuration().toMillis()).isGreaterThanOrEqualTo(5);
+
+        RecordedEvent outOfStock = find(events, "com.platform.OutOfStock");
+        assertThat(outOfStock.getLong("resourceId")).isEqualTo(20L);
+        assertThat(outOfStock.getInt("remaining")).isZero();
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,53 @@
+package com.platform.common.metrics;
+
+import com.platform.stock.domain.Menu;
+import com.platform.stock.dto.CreateOrderRequest;
+import com.platform.stock.repository.MenuRepository;
+import com.platform.stock.service.OrderServiceWithPessimisticLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ContentionMetricsIntegrationTest {
+
+    @Autowired
+    private OrderServiceWithPessimisticLock orderService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    @DisplayName("주문 결과/락 대기 메트릭과 Hikari 게이지 등록")
+    void createOrder_RecordsMetrics() {
+        Long menuId = menuRepository.save(Menu.builder().name("메트릭 메뉴").price(10000).stock(1).build()).getId();
+        CreateOrderRequest request = new CreateOrderRequest(8001L,
+                List.of(new CreateOrderRequest.OrderItemRequest(menuId, 1)));
+        double successBefore = count("success");
+        double rejectedBefore = count("rejected");
+
+        orderService.createOrder(request);
+        assertThatThrownBy(() -> orderService.createOrder(request))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(count("success") - successBefore).isEqualTo(1);
+        assertThat(count("rejected") - rejectedBefore).isEqualTo(1);
+        assertThat(registry.get("lock.acquire").tag("resource", "menu").timer().count()).isGreaterThanOrEqualTo(2);
+        assertThat(registry.find("hikaricp.connections.active").gauge()).isNotNull();
+    }
+
+    private double count(String outcome) {
+        var timer = registry.find("orders.create").tags("strategy", "pessimistic", "outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,75 @@
+package com.platform.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentionMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ContentionMetrics metrics = new ContentionMetrics(registry);
+
+    @Test
+    @DisplayName("락 조회 시간 - resource 태그별 기록")
+    void timeLockAcquire() {
+        Optional<String> result = metrics.timeLockAcquire("menu", 1L, () -> Optional.of("pizza"));
+        metrics.timeLockAcquire("menu", 2L, Optional::empty);
+
+        assertThat(result).contains("pizza");
+        Timer timer = registry.get("lock.acquire").tag("resource", "menu").timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 재시도 - 시도 차수별 카운트")
+    void optimisticRetry() {
+        metrics.recordOptimisticRetry("menu", 1);
+        metrics.recordOptimisticRetry("menu", 1);
+        metrics.recordOptimisticRetry("menu", 2);
+        metrics.recordOptimisticExhausted("menu");
+
+        assertThat(registry.get("lock.optimistic.retry").tag("attempt", "1").counter().count()).isEqualTo(2);
+        assertThat(registry.get("lock.optimistic.retry").tag("attempt", "2").counter().count()).isEqualTo(1);
+        assertThat(registry.get("lock.optimistic.exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결과 분류 - 락 충돌 / 풀 고갈 / 비즈니스 거절 구분")
+    void classify() {
+        assertThat(ContentionMetrics.classify(null)).isEqualTo(ContentionMetrics.OUTCOME_SUCCESS);
+        assertThat(ContentionMetrics.classify(new IllegalStateException("재고가 부족합니다")))
+                .isEqualTo(ContentionMetrics.OUTCOME_REJECTED);
+        assertThat(ContentionMetrics.classify(new ObjectOptimisticLockingFailureException("Menu", 1L)))
+                .isEqualTo(ContentionMetrics.OUTCOME_CONFLICT);
+        // 재시도 소진 후 IllegalStateException 으로 감싸도 충돌로 분류
+        assertThat(ContentionMetrics.classify(new IllegalStateException("재시도 실패",
+                new ObjectOptimisticLockingFailureException("Menu", 1L))))
+                .isEqualTo(ContentionMetrics.OUTCOME_CONFLICT);
+        assertThat(ContentionMetrics.classify(new CannotGetJdbcConnectionException("timeout",
+                new SQLTransientConnectionException("Connection is not available"))))
+                .isEqualTo(ContentionMetrics.OUTCOME_POOL_TIMEOUT);
+        assertThat(ContentionMetrics.classify(new RuntimeException()))
+                .isEqualTo(ContentionMetrics.OUTCOME_ERROR);
+    }
+
+    @Test
+    @DisplayName("지연 히스토그램 - strategy/outcome 태그")
+    void recordOutcome() {
+        metrics.recordOutcome("orders.create", "pessimistic", ContentionMetrics.OUTCOME_SUCCESS, 5_000_000);
+        metrics.recordOutcome("orders.create", "pessimistic", ContentionMetrics.OUTCOME_REJECTED, 1_000_000);
+
+        assertThat(registry.get("orders.create").tags("strategy", "pessimistic", "outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("orders.create").tags("strategy", "pessimistic", "outcome", "rejected").timer().count())
+                .isEqualTo(1);
+    }
+}
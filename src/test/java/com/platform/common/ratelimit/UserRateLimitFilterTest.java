@@ -0,0 +1,107 @@
+package com.platform.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimitFilterTest {
+
+    private final UserRateLimitFilter filter = new UserRateLimitFilter(
+            new UserRateLimiter(2, 1, 60, 1000, 4, () -> 1L), true, 65536);
+
+    @Test
+    @DisplayName("JSON body의 userId 기준으로 제한, 제한된 요청은 429 + 컨트롤러 미호출")
+    void throttleByBodyUserId() throws Exception {
+        assertThat(post("/api/coupons/issue", "{\"couponId\":1,\"userId\":7}").getStatus()).isEqualTo(200);
+        assertThat(post("/api/coupons/issue/atomic", "{\"couponId\":1,\"userId\":7}").getStatus()).isEqualTo(200);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse throttled = new MockHttpServletResponse();
+        filter.doFilter(jsonRequest("/api/orders/pessimistic", "{\"items\":[{\"menuId\":1}],\"userId\":7}"), throttled, chain);
+
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("컨트롤러는 필터가 읽은 body를 다시 읽을 수 있음")
+    void bodyIsReplayable() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(jsonRequest("/api/checkout", "{\"userId\":8}"), new MockHttpServletResponse(), chain);
+
+        byte[] body = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"userId\":8}");
+    }
+
+    @Test
+    @DisplayName("조회 API는 제한 대상이 아님")
+    void readApiNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/coupons/available");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("헤더 사용자 ID는 무시 - 헤더를 바꿔도 body userId 버킷으로 제한")
+    void headerUserIdIgnored() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(post("/api/coupons/issue", "{\"couponId\":1,\"userId\":10}").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletRequest request = jsonRequest("/api/coupons/issue", "{\"couponId\":1,\"userId\":10}");
+        request.addHeader("X-User-Id", "999");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("길이를 모르는(chunked) body도 한도까지만 읽고, 넘으면 413")
+    void unknownLengthBodyOverLimit() throws Exception {
+        UserRateLimitFilter smallFilter = new UserRateLimitFilter(
+                new UserRateLimiter(2, 1, 60, 1000, 4, () -> 1L), true, 16);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders") {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContentType("application/json");
+        request.setContent("{\"userId\":11,\"items\":[{\"menuId\":1}]}".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        smallFilter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletResponse post(String uri, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(jsonRequest(uri, body), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest jsonRequest(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
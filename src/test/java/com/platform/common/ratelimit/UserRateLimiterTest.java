@@ -0,0 +1,66 @@
+package com.platform.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 제한, 시간이 지나면 충전")
+    void tryAcquire_BurstAndRefill() {
+        UserRateLimiter limiter = new UserRateLimiter(5, 2, 60, 1000, 4, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(1L)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+        // 다른 사용자는 영향 없음
+        assertThat(limiter.tryAcquire(2L)).isTrue();
+
+        // 0.5초 → 토큰 1개 충전
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("idle 버킷 제거 - 제거 후에도 허용량은 그대로")
+    void evictIdle() {
+        UserRateLimiter limiter = new UserRateLimiter(5, 2, 60, 1000, 4, clock::get);
+        for (long userId = 0; userId < 100; userId++) {
+            limiter.tryAcquire(userId);
+        }
+        assertThat(limiter.size()).isEqualTo(100);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        limiter.tryAcquire(7L);
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자가 아무리 많아도 추적 항목 수는 max-entries 이하")
+    void boundedEntries() {
+        UserRateLimiter limiter = new UserRateLimiter(5, 2, 60, 1024, 8, clock::get);
+
+        for (long userId = 0; userId < 1_000_000; userId++) {
+            clock.incrementAndGet();
+            assertThat(limiter.tryAcquire(userId)).isTrue();
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(1024);
+        // 최근 사용자는 남아 있어 계속 제한됨
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(999_999L);
+        }
+        assertThat(limiter.tryAcquire(999_999L)).isFalse();
+    }
+}
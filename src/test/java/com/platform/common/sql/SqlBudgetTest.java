@@ -0,0 +1,147 @@
+package com.platform.common.sql;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.repository.UserCouponRepository;
+import com.api.coupon.service.CouponQueryService;
+import com.api.coupon.service.CouponService;
+import com.api.coupon.service.CouponServiceAnswer;
+import com.platform.stock.domain.Menu;
+import com.platform.stock.dto.CreateOrderRequest;
+import com.platform.stock.dto.OrderResponse;
+import com.platform.stock.repository.MenuRepository;
+import com.platform.stock.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.platform.common.sql.SqlStatementAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SqlBudgetTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponServiceAnswer couponServiceAnswer;
+
+    @Autowired
+    private CouponQueryService couponQueryService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    @DisplayName("주문 목록 조회 - 주문 수와 무관하게 SQL 1회")
+    void getOrdersByUserId_SingleStatement() {
+        Long userId = 7001L;
+        Long menuId = menuRepository.save(Menu.builder().name("SQL 예산 메뉴").price(10000).stock(100).build()).getId();
+        for (int i = 0; i < 5; i++) {
+            orderService.createOrder(new CreateOrderRequest(userId,
+                    List.of(new CreateOrderRequest.OrderItemRequest(menuId, 1))));
+        }
+
+        List<OrderResponse> orders = assertMaxStatements(1, () -> orderService.getOrdersByUserId(userId));
+
+        assertThat(orders).hasSize(5);
+        assertThat(orders).allSatisfy(order -> assertThat(order.getItems()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("보유 쿠폰 조회 - 쿠폰 수와 무관하게 SQL 2회 이하")
+    void getUserOwnedCoupons_AtMostTwoStatements() {
+        Long userId = 7002L;
+        List<Long> couponIds = issueCoupons(userId, 6);
+
+        List<Coupon> coupons = assertMaxStatements(2, () -> couponQueryService.getUserOwnedCoupons(userId, couponIds));
+
+        assertThat(coupons).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("지갑 조회 - 캐시 미스여도 SQL 1회")
+    void getUserCoupons_SingleStatement() {
+        Long userId = 7003L;
+        issueCoupons(userId, 6);
+
+        assertThat(assertMaxStatements(1, () -> couponService.getUserCoupons(userId))).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("쿠폰마다 조회하는 구현은 반복 SQL(N+1)로 잡힌다")
+    void repeatedStatements_Detected() {
+        Long userId = 7004L;
+        issueCoupons(userId, 6);
+
+        SqlScope scope = SqlStatementAssertions.record(() -> couponServiceAnswer.getUserCoupons(userId));
+
+        assertThat(scope.getStatementCount()).isEqualTo(7);
+        assertThat(scope.findRepeated(5)).hasSize(1);
+        assertThat(scope.violations(3, 5)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("SQL 정규화 - 파라미터 값과 IN 목록 길이는 무시")
+    void normalize() {
+        assertThat(SqlScope.normalize("select * from coupon where id in (?, ?, ?)"))
+                .isEqualTo(SqlScope.normalize("select *\n  from coupon\n where id in (?)"));
+        assertThat(SqlScope.normalize("select * from coupon where id = 1 and name = 'a'"))
+                .isEqualTo(SqlScope.normalize("select * from coupon where id = 22 and name = 'bb'"));
+    }
+
+    @Test
+    @DisplayName("SQL 별 실행 횟수 - 처음 실행된 순서 유지")
+    void statements_FirstExecutionOrder() {
+        SqlScope scope = new SqlScope("order");
+        List<String> sqls = List.of("select * from menu", "select * from orders", "select * from coupon",
+                "select * from user_coupon");
+        sqls.forEach(scope::recordStatement);
+        scope.recordStatement(sqls.get(0));
+
+        assertThat(scope.getStatements().keySet())
+                .containsExactly(sqls.stream().map(SqlScope::normalize).toArray(String[]::new));
+        assertThat(scope.getStatements().values()).containsExactly(2, 1, 1, 1);
+    }
+
+    private List<Long> issueCoupons(Long userId, int count) {
+        List<Long> couponIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long couponId = couponRepository.save(Coupon.builder()
+                    .name("SQL 예산 쿠폰 " + i)
+                    .type(CouponType.FIXED)
+                    .discountValue(1000)
+                    .minOrderAmount(0)
+                    .startDate(LocalDateTime.now().minusDays(1))
+                    .endDate(LocalDateTime.now().plusDays(1))
+                    .totalQuantity(100)
+                    .issuedQuantity(1)
+                    .build()).getId();
+            userCouponRepository.save(UserCoupon.builder()
+                    .userId(userId)
+                    .couponId(couponId)
+                    .issuedAt(LocalDateTime.now())
+                    .used(false)
+                    .build());
+            couponIds.add(couponId);
+        }
+        return couponIds;
+    }
+}
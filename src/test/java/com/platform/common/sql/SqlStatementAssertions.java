@@ -0,0 +1,61 @@
+package com.platform.common.sql;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 실행 수 검증
+ *
+ * <pre>
+ * List&lt;OrderResponse&gt; orders = assertMaxStatements(1, () -&gt; orderService.getOrdersByUserId(userId));
+ * assertMaxStatements(3, () -&gt; mockMvc.perform(get("/api/orders").param("userId", "1")));
+ * </pre>
+ *
+ * 같은 스레드에서 실행된 Hibernate SQL 만 집계 (MockMvc 포함, 비동기/JdbcTemplate 제외)
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> action) {
+        try (SqlScope scope = SqlStatementRecorder.open("test")) {
+            T result = action.get();
+            assertThat(scope.getStatementCount())
+                    .as("SQL 실행 수 (실행된 SQL: %s)", scope.getStatements())
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        }
+    }
+
+    public static void assertMaxStatements(int maxStatements, ThrowingRunnable action) {
+        assertMaxStatements(maxStatements, () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 실행 구간의 집계 결과 반환 (반복 SQL 등 직접 검증할 때)
+     */
+    public static SqlScope record(ThrowingRunnable action) {
+        try (SqlScope scope = SqlStatementRecorder.open("test")) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return scope;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,100 @@
+package com.platform.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepresentationCacheTest {
+
+    private final RepresentationCache cache = new RepresentationCache(new ObjectMapper(), 16);
+    private final AtomicInteger bodyCalls = new AtomicInteger();
+
+    private List<String> body() {
+        bodyCalls.incrementAndGet();
+        return List.of("불고기 피자", "콤비네이션 피자", "페퍼로니 피자");
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 직렬화 결과 재사용")
+    void sameVersion_ReusesBytes() {
+        ResponseEntity<byte[]> first = cache.respond(new MockHttpServletRequest(), "menus", "1", this::body);
+        ResponseEntity<byte[]> second = cache.respond(new MockHttpServletRequest(), "menus", "1", this::body);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).contains("불고기 피자");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(first.getHeaders().getETag()).isEqualTo("\"menus-1\"");
+        assertThat(bodyCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 시 본문 생성 없이 304")
+    void ifNoneMatch_NotModified() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"menus-1\", \"other\"");
+
+        ResponseEntity<byte[]> response = cache.respond(request, "menus", "1", this::body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"menus-1\"");
+        assertThat(bodyCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 새 ETag 로 다시 직렬화")
+    void versionChanged_Reserializes() {
+        cache.respond(new MockHttpServletRequest(), "menus", "1", this::body);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"menus-1\"");
+        ResponseEntity<byte[]> response = cache.respond(request, "menus", "2", this::body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"menus-2\"");
+        assertThat(bodyCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gzip 수락 시 압축 바이트와 별도 ETag 로 응답")
+    void gzip() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8");
+
+        ResponseEntity<byte[]> response = cache.respond(request, "menus", "1", this::body);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"menus-1-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("페퍼로니 피자");
+        }
+
+        // 압축 표현의 ETag 로 재검증해도 304
+        MockHttpServletRequest revalidate = new MockHttpServletRequest();
+        revalidate.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, "\"menus-1-gzip\"");
+        assertThat(cache.respond(revalidate, "menus", "1", this::body).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("gzip;q=0 은 압축하지 않음")
+    void gzipRejected() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+        assertThat(RepresentationCache.acceptsGzip(request)).isFalse();
+    }
+}
@@ -0,0 +1,159 @@
+package com.platform.stock.service;
+
+import com.api.coupon.domain.Coupon;
+import com.api.coupon.domain.CouponType;
+import com.api.coupon.domain.UserCoupon;
+import com.api.coupon.repository.CouponRepository;
+import com.api.coupon.repository.UserCouponRepository;
+import com.platform.stock.domain.Menu;
+import com.platform.stock.dto.CheckoutRequest;
+import com.platform.stock.dto.CreateOrderRequest;
+import com.platform.stock.dto.OrderResponse;
+import com.platform.stock.repository.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CheckoutServiceTest {
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    private Long testMenuId;
+    private static final int INITIAL_STOCK = 10;
+
+    @BeforeEach
+    void setUp() {
+        testMenuId = menuRepository.save(Menu.builder()
+            .name("테스트 피자")
+            .price(20000)
+            .stock(INITIAL_STOCK)
+            .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteById(testMenuId);
+    }
+
+    @Test
+    @DisplayName("결제 - 재고 차감, 쿠폰 사용, 할인 금액 저장")
+    void checkout_Success() {
+        Long userId = 9001L;
+        Coupon coupon = saveActiveCoupon();
+        issue(userId, coupon.getId());
+
+        OrderResponse response = checkoutService.checkout(request(userId, 2, List.of(coupon.getId())));
+
+        assertThat(response.getTotalPrice()).isEqualTo(40000);
+        assertThat(response.getDiscountAmount()).isEqualTo(5000);
+        assertThat(response.getPaymentPrice()).isEqualTo(35000);
+        assertThat(menuRepository.findById(testMenuId).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK - 2);
+
+        UserCoupon userCoupon = userCouponRepository.findByUserIdAndCouponIdAndUsed(userId, coupon.getId(), true).orElseThrow();
+        assertThat(userCoupon.getUsedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("결제 - 재고 부족이면 쿠폰 사용도 롤백")
+    void checkout_OutOfStock_RollbackCoupon() {
+        Long userId = 9002L;
+        Coupon coupon = saveActiveCoupon();
+        issue(userId, coupon.getId());
+
+        assertThatThrownBy(() -> checkoutService.checkout(request(userId, INITIAL_STOCK + 1, List.of(coupon.getId()))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("재고가 부족합니다");
+
+        assertThat(menuRepository.findById(testMenuId).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(userCouponRepository.findByUserIdAndCouponIdAndUsed(userId, coupon.getId(), false)).isPresent();
+    }
+
+    @Test
+    @DisplayName("결제 - 같은 쿠폰으로 동시에 결제하면 1건만 성공")
+    void checkout_SameCoupon_Concurrency() throws InterruptedException {
+        Long userId = 9003L;
+        Coupon coupon = saveActiveCoupon();
+        issue(userId, coupon.getId());
+
+        int threadCount = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    checkoutService.checkout(request(userId, 1, List.of(coupon.getId())));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 이미 사용된 쿠폰
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(menuRepository.findById(testMenuId).orElseThrow().getStock()).isEqualTo(INITIAL_STOCK - 1);
+    }
+
+    private CheckoutRequest request(Long userId, int quantity, List<Long> couponIds) {
+        return CheckoutRequest.builder()
+            .userId(userId)
+            .items(List.of(CreateOrderRequest.OrderItemRequest.builder()
+                .menuId(testMenuId)
+                .quantity(quantity)
+                .build()))
+            .couponIds(couponIds)
+            .build();
+    }
+
+    private Coupon saveActiveCoupon() {
+        return couponRepository.save(Coupon.builder()
+            .name("결제 테스트 쿠폰")
+            .type(CouponType.FIXED)
+            .discountValue(5000)
+            .minOrderAmount(10000)
+            .startDate(LocalDateTime.now().minusDays(1))
+            .endDate(LocalDateTime.now().plusDays(1))
+            .totalQuantity(100)
+            .issuedQuantity(1)
+            .build());
+    }
+
+    private void issue(Long userId, Long couponId) {
+        userCouponRepository.save(UserCoupon.builder()
+            .userId(userId)
+            .couponId(couponId)
+            .issuedAt(LocalDateTime.now())
+            .used(false)
+            .build());
+    }
+}